@@ -0,0 +1,117 @@
+package com.braintreepayments.demo.test;
+
+import android.content.Context;
+import android.content.Intent;
+
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.braintreepayments.api.testgateway.GatewayEndpoint;
+import com.braintreepayments.api.testgateway.GatewayProfile;
+import com.braintreepayments.api.testgateway.TestGateway;
+import com.braintreepayments.demo.BaseActivity;
+import com.braintreepayments.demo.MainActivity;
+import com.braintreepayments.demo.test.utilities.TestHelper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+
+import static com.braintreepayments.AutomatorAction.click;
+import static com.braintreepayments.AutomatorAssertion.text;
+import static com.braintreepayments.DeviceAutomator.onDevice;
+import static com.braintreepayments.UiObjectMatcher.withResourceId;
+import static com.braintreepayments.UiObjectMatcher.withText;
+import static com.braintreepayments.UiObjectMatcher.withTextContaining;
+import static com.braintreepayments.demo.test.utilities.CardNumber.VISA;
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs Drop-in against the in-process {@link TestGateway} instead of the sandbox, so that slow
+ * and failing gateway responses can be reproduced without network access.
+ */
+@RunWith(AndroidJUnit4.class)
+public class TestGatewayDropInTest extends TestHelper {
+
+    private static final int GATEWAY_PORT = 3000;
+
+    private TestGateway gateway;
+
+    @Before
+    public void setup() throws IOException {
+        super.setup();
+        gateway = new TestGateway("127.0.0.1", GATEWAY_PORT);
+        gateway.start();
+    }
+
+    @After
+    public void tearDown() {
+        gateway.stop();
+    }
+
+    @Test(timeout = 60000)
+    public void tokenizesACard_whenTheGatewayIsSlow() {
+        gateway.setProfile(GatewayProfile.slow().setVaultSize(0));
+        launchApp(false);
+        onDevice(withText("Add Payment Method")).waitForExists().waitForEnabled().perform(click());
+
+        tokenizeCard(VISA);
+
+        getNonceDetails().check(text(containsString("Card Last Two: 11")));
+    }
+
+    @Test(timeout = 60000)
+    public void tokenizesACard_whenVaulted_addsTheCardToTheVault() {
+        gateway.setProfile(GatewayProfile.typical().setVaultSize(0));
+        setSaveCardCheckBox(true, true);
+        launchApp(true);
+        onDevice(withText("Add Payment Method")).waitForExists().waitForEnabled().perform(click());
+
+        tokenizeCard(VISA);
+
+        getNonceDetails().check(text(containsString("Card Last Two: 11")));
+        assertEquals(1, gateway.getVaultSize());
+    }
+
+    @Test(timeout = 60000)
+    public void tokenizesACard_whenTokenizationFails_returnsAnError() {
+        gateway.setProfile(GatewayProfile.instant()
+                .setVaultSize(0)
+                .setErrorRate(GatewayEndpoint.TOKENIZE_CARD, 1));
+        launchApp(false);
+        onDevice(withText("Add Payment Method")).waitForExists().waitForEnabled().perform(click());
+
+        tokenizeCard(VISA);
+
+        assertTrue(onDevice(withTextContaining("ServiceUnavailableException")).waitForExists().exists());
+    }
+
+    @Test(timeout = 60000)
+    public void deletesAVaultedPaymentMethod() {
+        gateway.setProfile(GatewayProfile.typical().setVaultSize(1));
+        launchApp(true);
+
+        onDevice(withText("Visa")).waitForExists().perform(click());
+        onDevice(withText("Edit")).waitForExists().perform(click());
+        onDevice(withResourceId("com.braintreepayments.demo:id/bt_payment_method_delete_icon"))
+                .waitForExists().perform(click());
+        onDevice(withText("Delete")).waitForExists().perform(click());
+        onDevice(withText("Done")).waitForExists().perform(click());
+
+        assertEquals(0, gateway.getVaultSize());
+    }
+
+    private void launchApp(boolean vaultManagerEnabled) {
+        Context context = ApplicationProvider.getApplicationContext();
+        Intent intent = new Intent(context, MainActivity.class)
+                .putExtra(BaseActivity.EXTRA_AUTHORIZATION, gateway.getClientToken())
+                .putExtra(MainActivity.EXTRA_VAULT_MANAGER_ENABLED, vaultManagerEnabled)
+                .addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
+        context.startActivity(intent);
+    }
+}
@@ -28,6 +28,12 @@ import retrofit.client.Response;
 public abstract class BaseActivity extends AppCompatActivity implements OnRequestPermissionsResultCallback,
         ActionBar.OnNavigationListener {
 
+    /**
+     * Authorization to use instead of fetching one from the sample merchant server, e.g. a client
+     * token for a test gateway.
+     */
+    public static final String EXTRA_AUTHORIZATION = "com.braintreepayments.demo.EXTRA_AUTHORIZATION";
+
     private static final String KEY_AUTHORIZATION = "com.braintreepayments.demo.KEY_AUTHORIZATION";
 
     protected String authorization;
@@ -104,6 +110,9 @@ public abstract class BaseActivity extends AppCompatActivity implements OnReques
     protected void fetchAuthorization() {
         if (authorization != null) {
             onAuthorizationFetched();
+        } else if (getIntent().hasExtra(EXTRA_AUTHORIZATION)) {
+            authorization = getIntent().getStringExtra(EXTRA_AUTHORIZATION);
+            onAuthorizationFetched();
         } else if (Settings.useTokenizationKey(this)) {
             authorization = Settings.getEnvironmentTokenizationKey(this);
             onAuthorizationFetched();
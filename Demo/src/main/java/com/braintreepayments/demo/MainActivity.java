@@ -33,6 +33,12 @@ import com.google.android.gms.wallet.WalletConstants;
 
 public class MainActivity extends BaseActivity {
 
+    /**
+     * Enables the vault manager regardless of the setting, e.g. when Drop-in is driven by a
+     * benchmark.
+     */
+    public static final String EXTRA_VAULT_MANAGER_ENABLED = "com.braintreepayments.demo.EXTRA_VAULT_MANAGER_ENABLED";
+
     private static final int DROP_IN_REQUEST = 100;
 
     private static final String KEY_NONCE = "nonce";
@@ -178,7 +184,8 @@ public class MainActivity extends BaseActivity {
         dropInRequest.setMaskSecurityCode(true);
         dropInRequest.setAllowVaultCardOverride(Settings.isSaveCardCheckBoxVisible(this));
         dropInRequest.setVaultCardDefaultValue(Settings.defaultVaultSetting(this));
-        dropInRequest.setVaultManagerEnabled(Settings.isVaultManagerEnabled(this));
+        dropInRequest.setVaultManagerEnabled(Settings.isVaultManagerEnabled(this)
+                || getIntent().getBooleanExtra(EXTRA_VAULT_MANAGER_ENABLED, false));
         dropInRequest.setCardholderNameStatus(Settings.getCardholderNameStatus(this));
 
         if (Settings.isThreeDSecureEnabled(this)) {
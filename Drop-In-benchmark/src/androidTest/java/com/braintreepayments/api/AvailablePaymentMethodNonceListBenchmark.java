@@ -0,0 +1,52 @@
+package com.braintreepayments.api;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+
+import org.json.JSONException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Measures filtering the customer's vault into the payment methods shown by the vault manager
+ * and the vaulted payment methods list.
+ */
+@RunWith(Parameterized.class)
+public class AvailablePaymentMethodNonceListBenchmark {
+
+    @Rule
+    public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    @Parameterized.Parameter
+    public int vaultSize;
+
+    private Configuration configuration;
+    private List<PaymentMethodNonce> paymentMethodNonces;
+    private DropInRequest dropInRequest;
+
+    @Parameterized.Parameters(name = "vaultSize={0}")
+    public static Collection<Object[]> vaultSizes() {
+        return BenchmarkFixtures.vaultSizes();
+    }
+
+    @Before
+    public void beforeEach() throws JSONException {
+        configuration = BenchmarkFixtures.configuration();
+        paymentMethodNonces = BenchmarkFixtures.paymentMethodNonces(vaultSize);
+        dropInRequest = new DropInRequest();
+    }
+
+    @Test
+    public void construct() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            new AvailablePaymentMethodNonceList(configuration, paymentMethodNonces, dropInRequest, true);
+        }
+    }
+}
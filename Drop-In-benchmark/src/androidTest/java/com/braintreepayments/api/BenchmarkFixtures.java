@@ -0,0 +1,99 @@
+package com.braintreepayments.api;
+
+import org.json.JSONException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Inputs shared by the Drop-in benchmarks. Vault sizes cover a typical customer, a heavy
+ * customer and a pathological one.
+ */
+class BenchmarkFixtures {
+
+    static final String CONFIGURATION = "{"
+            + "\"clientApiUrl\": \"client_api_url\","
+            + "\"environment\": \"test\","
+            + "\"merchantId\": \"integration_merchant_id\","
+            + "\"merchantAccountId\": \"integration_merchant_account_id\","
+            + "\"paypalEnabled\": true,"
+            + "\"threeDSecureEnabled\": true,"
+            + "\"payWithVenmo\": {"
+            + "\"accessToken\": \"access-token\","
+            + "\"environment\": \"sandbox\","
+            + "\"merchantId\": \"venmo-merchant-id\""
+            + "},"
+            + "\"creditCards\": {"
+            + "\"supportedCardTypes\": [\"American Express\", \"Discover\", \"JCB\", \"MasterCard\", \"Visa\"]"
+            + "}"
+            + "}";
+
+    private static final String CARD_PAYMENT_METHOD = "{"
+            + "\"type\": \"CreditCard\","
+            + "\"nonce\": \"12345678-1234-1234-1234-%012d\","
+            + "\"description\": \"ending in 11\","
+            + "\"default\": false,"
+            + "\"isLocked\": false,"
+            + "\"securityQuestions\": [],"
+            + "\"details\": {\"cardType\": \"Visa\", \"lastTwo\": \"11\", \"lastFour\": \"1111\"}"
+            + "}";
+
+    private static final String PAYPAL_PAYMENT_METHOD = "{"
+            + "\"type\": \"PayPalAccount\","
+            + "\"nonce\": \"aaaaaaaa-bbbb-cccc-dddd-%012d\","
+            + "\"description\": \"with email paypalaccount@example.com\","
+            + "\"default\": false,"
+            + "\"isLocked\": false,"
+            + "\"securityQuestions\": [],"
+            + "\"details\": {\"email\": \"paypalaccount@example.com\"}"
+            + "}";
+
+    private static final String VENMO_PAYMENT_METHOD = "{"
+            + "\"type\": \"VenmoAccount\","
+            + "\"nonce\": \"fedcba98-7654-3210-fedc-%012d\","
+            + "\"description\": \"VenmoAccount\","
+            + "\"default\": false,"
+            + "\"isLocked\": false,"
+            + "\"securityQuestions\": [],"
+            + "\"details\": {\"cardType\": \"Discover\", \"username\": \"venmojoe\"}"
+            + "}";
+
+    private BenchmarkFixtures() {
+    }
+
+    static Collection<Object[]> vaultSizes() {
+        return Arrays.asList(new Object[][] { { 10 }, { 100 }, { 1000 } });
+    }
+
+    /**
+     * @return a payment methods response in which every fourth entry is a PayPal account, every
+     * eighth a Venmo account and the remainder are cards
+     */
+    static String paymentMethodsResponse(int vaultSize) {
+        StringBuilder builder = new StringBuilder("{\"paymentMethods\": [");
+        for (int i = 0; i < vaultSize; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            String template;
+            if (i % 8 == 0) {
+                template = VENMO_PAYMENT_METHOD;
+            } else if (i % 4 == 0) {
+                template = PAYPAL_PAYMENT_METHOD;
+            } else {
+                template = CARD_PAYMENT_METHOD;
+            }
+            builder.append(String.format(template, i));
+        }
+        return builder.append("]}").toString();
+    }
+
+    static List<PaymentMethodNonce> paymentMethodNonces(int vaultSize) throws JSONException {
+        return PaymentMethodNoncesParser.parse(paymentMethodsResponse(vaultSize));
+    }
+
+    static Configuration configuration() throws JSONException {
+        return Configuration.fromJson(CONFIGURATION);
+    }
+}
@@ -0,0 +1,66 @@
+package com.braintreepayments.api;
+
+import android.content.Context;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures the cost of constructing a {@link DropInClient}, as done by {@link DropInActivity}
+ * during activity creation.
+ */
+@RunWith(AndroidJUnit4.class)
+public class DropInClientBenchmark {
+
+    private static final String TOKENIZATION_KEY = "sandbox_tmxhyf7d_dcpspy2brwdjr3qn";
+
+    @Rule
+    public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    private Context context;
+    private DropInRequest dropInRequest;
+
+    @Before
+    public void beforeEach() {
+        context = ApplicationProvider.getApplicationContext();
+
+        dropInRequest = new DropInRequest();
+        dropInRequest.setPayPalDisabled(true);
+        dropInRequest.setVenmoDisabled(true);
+        dropInRequest.setGooglePayDisabled(true);
+    }
+
+    @Test
+    public void constructDropInClient_withLazyClients() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            new DropInClient(context, TOKENIZATION_KEY, dropInRequest);
+        }
+    }
+
+    @Test
+    public void constructDropInClient_withEagerClients() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            BraintreeClient braintreeClient = new BraintreeClient(context, TOKENIZATION_KEY);
+            new DropInClient(new DropInClientParams()
+                    .dropInRequest(dropInRequest)
+                    .braintreeClient(braintreeClient)
+                    .threeDSecureClient(new ThreeDSecureClient(braintreeClient))
+                    .paymentMethodClient(new PaymentMethodClient(braintreeClient))
+                    .payPalClient(new PayPalClient(braintreeClient))
+                    .venmoClient(new VenmoClient(braintreeClient))
+                    .cardClient(new CardClient(braintreeClient))
+                    .unionPayClient(new UnionPayClient(braintreeClient))
+                    .dataCollector(new DataCollector(braintreeClient))
+                    .googlePayClient(new GooglePayClient(braintreeClient)));
+        }
+    }
+}
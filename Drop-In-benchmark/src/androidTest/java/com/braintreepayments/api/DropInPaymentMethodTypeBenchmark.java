@@ -0,0 +1,70 @@
+package com.braintreepayments.api;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.json.JSONException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures the {@link DropInPaymentMethodType} lookups performed when binding payment method
+ * views and when configuring the card form.
+ */
+@RunWith(AndroidJUnit4.class)
+public class DropInPaymentMethodTypeBenchmark {
+
+    private static final List<String> SUPPORTED_CARD_TYPES = Arrays.asList(
+            "American Express", "Discover", "JCB", "MasterCard", "Visa", "Maestro", "UnionPay",
+            "Hiper", "Hipercard", "Diners", "Unknown");
+
+    @Rule
+    public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    private PaymentMethodNonce cardNonce;
+
+    @Before
+    public void beforeEach() throws JSONException {
+        // the first entry is a Venmo account; the second is a card
+        cardNonce = BenchmarkFixtures.paymentMethodNonces(2).get(1);
+    }
+
+    @Test
+    public void forType_withCanonicalName() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            DropInPaymentMethodType.forType("Visa");
+        }
+    }
+
+    @Test
+    public void forType_withUnknownName() {
+        // the worst case: every type is compared before UNKNOWN is returned
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            DropInPaymentMethodType.forType("Not a payment method");
+        }
+    }
+
+    @Test
+    public void forType_withPaymentMethodNonce() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            DropInPaymentMethodType.forType(cardNonce);
+        }
+    }
+
+    @Test
+    public void getCardsTypes() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            DropInPaymentMethodType.getCardsTypes(SUPPORTED_CARD_TYPES);
+        }
+    }
+}
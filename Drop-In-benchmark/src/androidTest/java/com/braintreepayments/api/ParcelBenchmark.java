@@ -0,0 +1,69 @@
+package com.braintreepayments.api;
+
+import android.os.Parcel;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.json.JSONException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures the parcel round-trips of the objects passed to and returned from
+ * {@link DropInActivity}.
+ */
+@RunWith(AndroidJUnit4.class)
+public class ParcelBenchmark {
+
+    @Rule
+    public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    private DropInRequest dropInRequest;
+    private DropInResult dropInResult;
+
+    @Before
+    public void beforeEach() throws JSONException {
+        ThreeDSecureRequest threeDSecureRequest = new ThreeDSecureRequest();
+        threeDSecureRequest.setAmount("10.00");
+
+        dropInRequest = new DropInRequest();
+        dropInRequest.setThreeDSecureRequest(threeDSecureRequest);
+        dropInRequest.setRequestThreeDSecureVerification(true);
+        dropInRequest.setPayPalRequest(new PayPalCheckoutRequest("10.00"));
+        dropInRequest.setVaultManagerEnabled(true);
+
+        // the second entry is a card
+        PaymentMethodNonce cardNonce = BenchmarkFixtures.paymentMethodNonces(2).get(1);
+        dropInResult = new DropInResult()
+                .paymentMethodNonce(cardNonce)
+                .deviceData("{\"device_session_id\": \"device-session-id\"}");
+    }
+
+    @Test
+    public void dropInRequest_roundTrip() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            Parcel parcel = Parcel.obtain();
+            dropInRequest.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            DropInRequest.CREATOR.createFromParcel(parcel);
+            parcel.recycle();
+        }
+    }
+
+    @Test
+    public void dropInResult_roundTrip() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            Parcel parcel = Parcel.obtain();
+            dropInResult.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            DropInResult.CREATOR.createFromParcel(parcel);
+            parcel.recycle();
+        }
+    }
+}
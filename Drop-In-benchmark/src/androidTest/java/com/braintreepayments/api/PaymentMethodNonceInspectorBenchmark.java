@@ -0,0 +1,64 @@
+package com.braintreepayments.api;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+
+import org.json.JSONException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Measures describing every payment method in the customer's vault, as done when the vaulted
+ * payment methods list and the vault manager are bound.
+ */
+@RunWith(Parameterized.class)
+public class PaymentMethodNonceInspectorBenchmark {
+
+    @Rule
+    public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    @Parameterized.Parameter
+    public int vaultSize;
+
+    private List<PaymentMethodNonce> paymentMethodNonces;
+    private PaymentMethodNonceInspector nonceInspector;
+
+    @Parameterized.Parameters(name = "vaultSize={0}")
+    public static Collection<Object[]> vaultSizes() {
+        return BenchmarkFixtures.vaultSizes();
+    }
+
+    @Before
+    public void beforeEach() throws JSONException {
+        paymentMethodNonces = BenchmarkFixtures.paymentMethodNonces(vaultSize);
+        nonceInspector = new PaymentMethodNonceInspector();
+    }
+
+    @Test
+    public void describeVault() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (PaymentMethodNonce paymentMethodNonce : paymentMethodNonces) {
+                nonceInspector.getTypeLabel(paymentMethodNonce);
+                nonceInspector.getDescription(paymentMethodNonce);
+            }
+        }
+    }
+
+    @Test
+    public void describeVault_withDropInPaymentMethodType() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (PaymentMethodNonce paymentMethodNonce : paymentMethodNonces) {
+                DropInPaymentMethodType.forType(paymentMethodNonce);
+                nonceInspector.getDescription(paymentMethodNonce);
+            }
+        }
+    }
+}
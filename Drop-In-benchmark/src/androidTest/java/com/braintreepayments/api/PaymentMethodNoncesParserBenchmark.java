@@ -0,0 +1,82 @@
+package com.braintreepayments.api;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compares the streaming {@link PaymentMethodNoncesParser} with parsing the whole payment methods
+ * response into a {@link JSONObject} first. The benchmark library reports allocation counts
+ * alongside timings.
+ */
+@RunWith(Parameterized.class)
+public class PaymentMethodNoncesParserBenchmark {
+
+    @Rule
+    public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    @Parameterized.Parameter
+    public int vaultSize;
+
+    private String responseBody;
+
+    @Parameterized.Parameters(name = "vaultSize={0}")
+    public static Collection<Object[]> vaultSizes() {
+        return BenchmarkFixtures.vaultSizes();
+    }
+
+    @Before
+    public void beforeEach() {
+        responseBody = BenchmarkFixtures.paymentMethodsResponse(vaultSize);
+    }
+
+    @Test
+    public void parse_streaming() throws JSONException {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            PaymentMethodNoncesParser.parse(responseBody);
+        }
+    }
+
+    @Test
+    public void parse_jsonObject() throws JSONException {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            parseWithJSONObject(responseBody);
+        }
+    }
+
+    // the parser PaymentMethodClient used before PaymentMethodNoncesParser was introduced
+    private static List<PaymentMethodNonce> parseWithJSONObject(String jsonBody) throws JSONException {
+        JSONArray paymentMethods = new JSONObject(jsonBody).getJSONArray("paymentMethods");
+
+        List<PaymentMethodNonce> result = new ArrayList<>();
+        for (int i = 0; i < paymentMethods.length(); i++) {
+            JSONObject json = paymentMethods.getJSONObject(i);
+            switch (json.getString("type")) {
+                case "CreditCard":
+                    result.add(CardNonce.fromJSON(json));
+                    break;
+                case "PayPalAccount":
+                    result.add(PayPalAccountNonce.fromJSON(json));
+                    break;
+                case "VenmoAccount":
+                    result.add(VenmoAccountNonce.fromJSON(json));
+                    break;
+            }
+        }
+        return result;
+    }
+}
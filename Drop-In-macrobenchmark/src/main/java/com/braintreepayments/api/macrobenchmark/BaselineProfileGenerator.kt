@@ -0,0 +1,57 @@
+package com.braintreepayments.api.macrobenchmark
+
+import androidx.benchmark.macro.ExperimentalBaselineProfilesApi
+import androidx.benchmark.macro.junit4.BaselineProfileRule
+import com.braintreepayments.api.macrobenchmark.DemoApp.enterCardDetails
+import com.braintreepayments.api.macrobenchmark.DemoApp.launchDropIn
+import com.braintreepayments.api.macrobenchmark.DemoApp.startMainActivity
+import com.braintreepayments.api.macrobenchmark.DemoApp.waitForPaymentMethods
+import com.braintreepayments.api.testgateway.TestGateway
+import org.junit.After
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+
+/**
+ * Generates the baseline profile shipped in `Drop-In/src/main/baseline-prof.txt` by walking
+ * `DropInActivity` -> `BottomSheetFragment` -> `SupportedPaymentMethodsFragment` ->
+ * `AddCardFragment` -> `CardDetailsFragment` in the Demo app.
+ *
+ * Requires a rooted device or an emulator without Google APIs. Replace
+ * `Drop-In/src/main/baseline-prof.txt` with the rules for Drop-in's classes from the generated
+ * `*-baseline-prof.txt`; rules for the Demo app and other libraries do not belong in Drop-in's
+ * artifact. Until the generator has been run, the shipped file lists the methods on this path by
+ * hand.
+ */
+@OptIn(ExperimentalBaselineProfilesApi::class)
+class BaselineProfileGenerator {
+
+    @get:Rule
+    val baselineProfileRule = BaselineProfileRule()
+
+    private lateinit var gateway: TestGateway
+
+    @Before
+    fun beforeEach() {
+        gateway = DemoApp.startGateway()
+    }
+
+    @After
+    fun afterEach() {
+        gateway.stop()
+    }
+
+    @Test
+    fun generate() {
+        baselineProfileRule.collectBaselineProfile(
+            packageName = DemoApp.PACKAGE_NAME,
+            packageFilters = listOf("com.braintreepayments.api")
+        ) {
+            pressHome()
+            startMainActivity(gateway)
+            launchDropIn()
+            waitForPaymentMethods()
+            enterCardDetails()
+        }
+    }
+}
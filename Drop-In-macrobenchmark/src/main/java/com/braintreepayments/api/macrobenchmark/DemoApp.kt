@@ -0,0 +1,137 @@
+package com.braintreepayments.api.macrobenchmark
+
+import android.content.Intent
+import androidx.benchmark.macro.MacrobenchmarkScope
+import androidx.test.platform.app.InstrumentationRegistry
+import androidx.test.uiautomator.By
+import androidx.test.uiautomator.Until
+import com.braintreepayments.api.testgateway.GatewayProfile
+import com.braintreepayments.api.testgateway.TestGateway
+import java.net.InetAddress
+
+/**
+ * Drives the Demo app's checkout screen and Drop-in from a Macrobenchmark.
+ */
+internal object DemoApp {
+
+    const val PACKAGE_NAME = "com.braintreepayments.demo"
+
+    private const val EXTRA_AUTHORIZATION = "com.braintreepayments.demo.EXTRA_AUTHORIZATION"
+    private const val EXTRA_VAULT_MANAGER_ENABLED = "com.braintreepayments.demo.EXTRA_VAULT_MANAGER_ENABLED"
+    private const val TIMEOUT_MILLIS = 10_000L
+
+    /**
+     * @return a gateway on the address passed to the instrumentation as `gatewayIp` and
+     * `gatewayPort`; it is started in this process unless the address belongs to another host, and
+     * behaves according to the `gatewayProfile` argument
+     */
+    fun startGateway(): TestGateway {
+        val arguments = InstrumentationRegistry.getArguments()
+        val host = arguments.getString("gatewayIp", "127.0.0.1")
+        val port = arguments.getString("gatewayPort", "3000").toInt()
+
+        val gateway = TestGateway(host, port)
+        gateway.profile = gatewayProfile(arguments.getString("gatewayProfile", "instant"))
+        if (InetAddress.getByName(host).isLoopbackAddress) {
+            gateway.start()
+        }
+        return gateway
+    }
+
+    private fun gatewayProfile(name: String): GatewayProfile = when (name) {
+        "instant" -> GatewayProfile.instant()
+        "typical" -> GatewayProfile.typical()
+        "slow" -> GatewayProfile.slow()
+        "flaky" -> GatewayProfile.flaky()
+        else -> throw IllegalArgumentException("Unknown gateway profile $name")
+    }
+
+    fun MacrobenchmarkScope.startMainActivity(gateway: TestGateway, vaultManagerEnabled: Boolean = false) {
+        startActivityAndWait(Intent(Intent.ACTION_MAIN)
+            .setClassName(PACKAGE_NAME, "$PACKAGE_NAME.MainActivity")
+            .putExtra(EXTRA_AUTHORIZATION, gateway.clientToken)
+            .putExtra(EXTRA_VAULT_MANAGER_ENABLED, vaultManagerEnabled))
+    }
+
+    /**
+     * Tap the button that calls `MainActivity#launchDropIn`. The Demo app shows either "Add
+     * Payment Method" or the customer's most recent payment method once Drop-in is ready.
+     */
+    fun MacrobenchmarkScope.launchDropIn() {
+        val launchButton = By.res(PACKAGE_NAME, "add_payment_method")
+        val recentPaymentMethod = By.res(PACKAGE_NAME, "payment_method")
+        device.wait(Until.hasObject(By.pkg(PACKAGE_NAME).depth(0)), TIMEOUT_MILLIS)
+
+        val deadline = System.currentTimeMillis() + TIMEOUT_MILLIS
+        while (System.currentTimeMillis() < deadline) {
+            val button = device.findObject(launchButton)?.takeIf { it.isEnabled }
+                ?: device.findObject(recentPaymentMethod)
+            if (button != null) {
+                button.click()
+                return
+            }
+            device.waitForIdle()
+        }
+        throw AssertionError("Drop-in could not be launched from the Demo app")
+    }
+
+    /**
+     * Wait until the supported payment methods and the customer's vault are shown.
+     */
+    fun MacrobenchmarkScope.waitForPaymentMethods() {
+        check(device.wait(Until.hasObject(By.res(PACKAGE_NAME, "bt_supported_payment_methods")), TIMEOUT_MILLIS)) {
+            "Supported payment methods were not shown"
+        }
+        check(device.wait(Until.hasObject(By.res(PACKAGE_NAME, "bt_vaulted_payment_methods")), TIMEOUT_MILLIS)) {
+            "Vaulted payment methods were not shown"
+        }
+        device.waitForIdle()
+    }
+
+    /**
+     * Choose "Credit or Debit Card" and enter a card number, which shows `AddCardFragment` and
+     * then `CardDetailsFragment`.
+     */
+    fun MacrobenchmarkScope.enterCardDetails() {
+        val addCard = device.wait(Until.findObject(By.text("Credit or Debit Card")), TIMEOUT_MILLIS)
+            ?: throw AssertionError("Credit or Debit Card was not shown")
+        addCard.click()
+
+        val cardNumber = device.wait(Until.findObject(By.res(PACKAGE_NAME, "bt_card_form_card_number")), TIMEOUT_MILLIS)
+            ?: throw AssertionError("AddCardFragment was not shown")
+        cardNumber.text = "4111111111111111"
+        device.findObject(By.res(PACKAGE_NAME, "bt_button")).click()
+
+        check(device.wait(Until.hasObject(By.res(PACKAGE_NAME, "bt_card_form_expiration")), TIMEOUT_MILLIS)) {
+            "CardDetailsFragment was not shown"
+        }
+        device.waitForIdle()
+    }
+
+    /**
+     * Open the vault manager with its edit button and close it again.
+     */
+    fun MacrobenchmarkScope.openAndCloseVaultManager() {
+        val editButton = device.wait(Until.findObject(By.res(PACKAGE_NAME, "bt_vault_edit_button")), TIMEOUT_MILLIS)
+            ?: throw AssertionError("Vault manager edit button was not shown")
+        editButton.click()
+
+        val closeButton = device.wait(Until.findObject(By.res(PACKAGE_NAME, "bt_vault_manager_close")), TIMEOUT_MILLIS)
+            ?: throw AssertionError("Vault manager was not shown")
+        device.waitForIdle()
+        closeButton.click()
+
+        check(device.wait(Until.hasObject(By.res(PACKAGE_NAME, "bt_vault_edit_button")), TIMEOUT_MILLIS)) {
+            "Vault manager was not dismissed"
+        }
+        device.waitForIdle()
+    }
+
+    /**
+     * Dismiss Drop-in so that the next iteration starts from the Demo app's checkout screen.
+     */
+    fun MacrobenchmarkScope.dismissDropIn() {
+        device.pressBack()
+        device.wait(Until.gone(By.res(PACKAGE_NAME, "bt_supported_payment_methods")), TIMEOUT_MILLIS)
+    }
+}
@@ -0,0 +1,95 @@
+package com.braintreepayments.api.macrobenchmark
+
+import androidx.benchmark.macro.CompilationMode
+import androidx.benchmark.macro.ExperimentalMetricApi
+import androidx.benchmark.macro.StartupMode
+import androidx.benchmark.macro.TraceSectionMetric
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule
+import com.braintreepayments.api.macrobenchmark.DemoApp.dismissDropIn
+import com.braintreepayments.api.macrobenchmark.DemoApp.launchDropIn
+import com.braintreepayments.api.macrobenchmark.DemoApp.startMainActivity
+import com.braintreepayments.api.macrobenchmark.DemoApp.waitForPaymentMethods
+import com.braintreepayments.api.testgateway.TestGateway
+import org.junit.AfterClass
+import org.junit.BeforeClass
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+/**
+ * Measures launching Drop-in from the Demo app until it is interactive, against the in-process
+ * [TestGateway] so that results do not depend on the network.
+ *
+ * Each interval is reported from the `DropIn:` async trace sections recorded by Drop-in's
+ * tracer, and starts when `DropInClient#launchDropInForResult()` is called:
+ * - `launch-to-first-frame`: until the first frame of `DropInActivity`
+ * - `launch-to-bottom-sheet-shown`: until the bottom sheet reaches `BottomSheetState.SHOWN`
+ * - `launch-to-payment-methods-shown`: until the supported and vaulted payment methods are drawn
+ *
+ * The start mode applies to the Demo app; a cold start also means Drop-in's classes are loaded
+ * for the first time when it is launched. Comparing `CompilationMode.None` with
+ * `CompilationMode.Partial` shows the effect of Drop-in's baseline profile.
+ */
+@OptIn(ExperimentalMetricApi::class)
+@RunWith(Parameterized::class)
+class DropInLaunchBenchmark(
+    private val startupMode: StartupMode,
+    private val compilationMode: CompilationMode
+) {
+
+    @get:Rule
+    val benchmarkRule = MacrobenchmarkRule()
+
+    @Test
+    fun launchDropIn() {
+        benchmarkRule.measureRepeated(
+            packageName = DemoApp.PACKAGE_NAME,
+            metrics = listOf(
+                TraceSectionMetric("DropIn:launch-to-first-frame"),
+                TraceSectionMetric("DropIn:launch-to-bottom-sheet-shown"),
+                TraceSectionMetric("DropIn:launch-to-payment-methods-shown")
+            ),
+            compilationMode = compilationMode,
+            startupMode = startupMode,
+            iterations = ITERATIONS,
+            setupBlock = {
+                pressHome()
+            }
+        ) {
+            startMainActivity(gateway)
+            launchDropIn()
+            waitForPaymentMethods()
+            dismissDropIn()
+        }
+    }
+
+    companion object {
+
+        private const val ITERATIONS = 10
+
+        private lateinit var gateway: TestGateway
+
+        // without any AOT compilation, and with only the baseline profiles shipped by Drop-in
+        // and its dependencies
+        @JvmStatic
+        @Parameterized.Parameters(name = "startup={0},compilation={1}")
+        fun parameters() = listOf(StartupMode.COLD, StartupMode.WARM, StartupMode.HOT)
+            .flatMap { startupMode ->
+                listOf(CompilationMode.None(), CompilationMode.Partial())
+                    .map { compilationMode -> arrayOf(startupMode, compilationMode) }
+            }
+
+        @JvmStatic
+        @BeforeClass
+        fun startGateway() {
+            gateway = DemoApp.startGateway()
+        }
+
+        @JvmStatic
+        @AfterClass
+        fun stopGateway() {
+            gateway.stop()
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.braintreepayments.api.macrobenchmark
+
+import androidx.benchmark.macro.CompilationMode
+import androidx.benchmark.macro.FrameTimingMetric
+import androidx.benchmark.macro.MacrobenchmarkScope
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule
+import com.braintreepayments.api.macrobenchmark.DemoApp.dismissDropIn
+import com.braintreepayments.api.macrobenchmark.DemoApp.launchDropIn
+import com.braintreepayments.api.macrobenchmark.DemoApp.openAndCloseVaultManager
+import com.braintreepayments.api.macrobenchmark.DemoApp.startMainActivity
+import com.braintreepayments.api.macrobenchmark.DemoApp.waitForPaymentMethods
+import com.braintreepayments.api.testgateway.TestGateway
+import org.junit.AfterClass
+import org.junit.BeforeClass
+import org.junit.Rule
+import org.junit.Test
+
+/**
+ * Measures the frame timing of the bottom sheet transitions driven by `BottomSheetPresenter`
+ * and `ViewPager2Animator`: the bottom sheet sliding up and down, and the vault manager sliding
+ * in and out with `ViewPager2#fakeDragBy`.
+ *
+ * The Demo app is started in the setup block, so only frames drawn after Drop-in is launched are
+ * measured.
+ */
+class DropInTransitionsBenchmark {
+
+    @get:Rule
+    val benchmarkRule = MacrobenchmarkRule()
+
+    @Test
+    fun slideUpAndDown() {
+        measureTransitions(vaultManagerEnabled = false) {
+            launchDropIn()
+            waitForPaymentMethods()
+            dismissDropIn()
+        }
+    }
+
+    @Test
+    fun vaultManagerEnterAndExit() {
+        measureTransitions(vaultManagerEnabled = true) {
+            launchDropIn()
+            waitForPaymentMethods()
+            openAndCloseVaultManager()
+            dismissDropIn()
+        }
+    }
+
+    private fun measureTransitions(
+        vaultManagerEnabled: Boolean,
+        measureBlock: MacrobenchmarkScope.() -> Unit
+    ) {
+        benchmarkRule.measureRepeated(
+            packageName = DemoApp.PACKAGE_NAME,
+            metrics = listOf(FrameTimingMetric()),
+            compilationMode = CompilationMode.Partial(),
+            iterations = ITERATIONS,
+            setupBlock = {
+                pressHome()
+                startMainActivity(gateway, vaultManagerEnabled)
+            },
+            measureBlock = measureBlock
+        )
+    }
+
+    companion object {
+
+        private const val ITERATIONS = 10
+
+        private lateinit var gateway: TestGateway
+
+        @JvmStatic
+        @BeforeClass
+        fun startGateway() {
+            gateway = DemoApp.startGateway()
+        }
+
+        @JvmStatic
+        @AfterClass
+        fun stopGateway() {
+            gateway.stop()
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.braintreepayments.api.testgateway;
+
+/**
+ * The requests served by {@link TestGateway}.
+ */
+public enum GatewayEndpoint {
+
+    /**
+     * {@code GET /merchants/:merchant_id/client_api/v1/configuration}
+     */
+    CONFIGURATION,
+
+    /**
+     * {@code GET /merchants/:merchant_id/client_api/v1/payment_methods}
+     */
+    PAYMENT_METHODS,
+
+    /**
+     * {@code POST /merchants/:merchant_id/client_api/v1/payment_methods/credit_cards}
+     */
+    TOKENIZE_CARD,
+
+    /**
+     * The {@code DeletePaymentMethodFromSingleUseToken} mutation, {@code POST /graphql}
+     */
+    DELETE_PAYMENT_METHOD
+}
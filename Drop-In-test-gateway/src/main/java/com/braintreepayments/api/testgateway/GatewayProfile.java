@@ -0,0 +1,162 @@
+package com.braintreepayments.api.testgateway;
+
+import androidx.annotation.NonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * How {@link TestGateway} behaves: the latency and error rate of each {@link GatewayEndpoint}
+ * and the size of the customer's vault.
+ * <p>
+ * Requests that fail are answered with {@link #getErrorStatusCode()} after the endpoint's latency
+ * and have no side effects. Latencies and failures are drawn from a random number generator
+ * seeded with {@link #getSeed()}, so a profile produces the same sequence of responses for the
+ * same sequence of requests when the requests are made one after another. Concurrent requests
+ * draw from the generator in the order they arrive, which varies between runs.
+ */
+public class GatewayProfile {
+
+    public static final long DEFAULT_SEED = 0L;
+    public static final int DEFAULT_ERROR_STATUS_CODE = 503;
+
+    private final Map<GatewayEndpoint, LatencyDistribution> latencies = new EnumMap<>(GatewayEndpoint.class);
+    private final Map<GatewayEndpoint, Double> errorRates = new EnumMap<>(GatewayEndpoint.class);
+
+    private int vaultSize = TestGateway.DEFAULT_VAULT_SIZE;
+    private int errorStatusCode = DEFAULT_ERROR_STATUS_CODE;
+    private long seed = DEFAULT_SEED;
+
+    public GatewayProfile() {
+        setLatency(LatencyDistribution.none());
+        setErrorRate(0);
+    }
+
+    /**
+     * @return a profile that answers every request immediately and successfully
+     */
+    @NonNull
+    public static GatewayProfile instant() {
+        return new GatewayProfile();
+    }
+
+    /**
+     * @return a profile with the latencies of a good mobile connection to the gateway
+     */
+    @NonNull
+    public static GatewayProfile typical() {
+        return new GatewayProfile()
+                .setLatency(LatencyDistribution.logNormal(120, 350))
+                .setLatency(GatewayEndpoint.TOKENIZE_CARD, LatencyDistribution.logNormal(250, 700));
+    }
+
+    /**
+     * @return a profile with the latencies of a congested or poor mobile connection
+     */
+    @NonNull
+    public static GatewayProfile slow() {
+        return new GatewayProfile()
+                .setLatency(LatencyDistribution.logNormal(600, 2500))
+                .setLatency(GatewayEndpoint.TOKENIZE_CARD, LatencyDistribution.logNormal(1200, 4000));
+    }
+
+    /**
+     * @return a {@link #typical()} profile in which one in ten requests fails
+     */
+    @NonNull
+    public static GatewayProfile flaky() {
+        return typical().setErrorRate(0.1);
+    }
+
+    /**
+     * Set the latency of every endpoint.
+     */
+    @NonNull
+    public synchronized GatewayProfile setLatency(@NonNull LatencyDistribution latency) {
+        for (GatewayEndpoint endpoint : GatewayEndpoint.values()) {
+            latencies.put(endpoint, latency);
+        }
+        return this;
+    }
+
+    @NonNull
+    public synchronized GatewayProfile setLatency(@NonNull GatewayEndpoint endpoint,
+                                                  @NonNull LatencyDistribution latency) {
+        latencies.put(endpoint, latency);
+        return this;
+    }
+
+    /**
+     * Set the error rate of every endpoint.
+     *
+     * @param errorRate the fraction of requests that fail, between 0 and 1
+     */
+    @NonNull
+    public synchronized GatewayProfile setErrorRate(double errorRate) {
+        for (GatewayEndpoint endpoint : GatewayEndpoint.values()) {
+            setErrorRate(endpoint, errorRate);
+        }
+        return this;
+    }
+
+    /**
+     * @param errorRate the fraction of requests to the endpoint that fail, between 0 and 1
+     */
+    @NonNull
+    public synchronized GatewayProfile setErrorRate(@NonNull GatewayEndpoint endpoint, double errorRate) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1");
+        }
+        errorRates.put(endpoint, errorRate);
+        return this;
+    }
+
+    /**
+     * @param errorStatusCode the HTTP status code of failed requests, e.g. 500 or 503
+     */
+    @NonNull
+    public synchronized GatewayProfile setErrorStatusCode(int errorStatusCode) {
+        this.errorStatusCode = errorStatusCode;
+        return this;
+    }
+
+    /**
+     * @param vaultSize the number of payment methods in the customer's vault when the profile is
+     * applied
+     */
+    @NonNull
+    public synchronized GatewayProfile setVaultSize(int vaultSize) {
+        if (vaultSize < 0) {
+            throw new IllegalArgumentException("vaultSize must not be negative");
+        }
+        this.vaultSize = vaultSize;
+        return this;
+    }
+
+    @NonNull
+    public synchronized GatewayProfile setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    @NonNull
+    public synchronized LatencyDistribution getLatency(@NonNull GatewayEndpoint endpoint) {
+        return latencies.get(endpoint);
+    }
+
+    public synchronized double getErrorRate(@NonNull GatewayEndpoint endpoint) {
+        return errorRates.get(endpoint);
+    }
+
+    public synchronized int getErrorStatusCode() {
+        return errorStatusCode;
+    }
+
+    public synchronized int getVaultSize() {
+        return vaultSize;
+    }
+
+    public synchronized long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,106 @@
+package com.braintreepayments.api.testgateway;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An HTTP/1.1 request read from a client connection. Only what the Braintree SDK sends is
+ * supported: a request line, headers and an optional body with a {@code Content-Length}.
+ */
+class GatewayRequest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final String method;
+    private final String path;
+    private final String query;
+    private final Map<String, String> headers;
+    private final String body;
+
+    private GatewayRequest(String method, String path, String query, Map<String, String> headers, String body) {
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    static GatewayRequest read(InputStream in) throws IOException {
+        String requestLine = readLine(in);
+        String[] parts = requestLine.split(" ");
+        if (parts.length < 2) {
+            throw new IOException("Malformed request line: " + requestLine);
+        }
+
+        String target = parts[1];
+        int queryIndex = target.indexOf('?');
+        String path = (queryIndex >= 0) ? target.substring(0, queryIndex) : target;
+        String query = (queryIndex >= 0) ? target.substring(queryIndex + 1) : "";
+
+        Map<String, String> headers = new HashMap<>();
+        String line;
+        while (!(line = readLine(in)).isEmpty()) {
+            int separator = line.indexOf(':');
+            if (separator > 0) {
+                headers.put(line.substring(0, separator).trim().toLowerCase(Locale.US),
+                        line.substring(separator + 1).trim());
+            }
+        }
+
+        String body = "";
+        String contentLength = headers.get("content-length");
+        if (contentLength != null) {
+            byte[] bytes = new byte[Integer.parseInt(contentLength)];
+            int offset = 0;
+            while (offset < bytes.length) {
+                int read = in.read(bytes, offset, bytes.length - offset);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of request body");
+                }
+                offset += read;
+            }
+            body = new String(bytes, UTF_8);
+        }
+
+        return new GatewayRequest(parts[0], path, query, headers, body);
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c < 0) {
+                throw new IOException("Unexpected end of request");
+            }
+            if (c != '\r') {
+                line.write(c);
+            }
+        }
+        return new String(line.toByteArray(), UTF_8);
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    String getQuery() {
+        return query;
+    }
+
+    String getHeader(String name) {
+        return headers.get(name.toLowerCase(Locale.US));
+    }
+
+    String getBody() {
+        return body;
+    }
+}
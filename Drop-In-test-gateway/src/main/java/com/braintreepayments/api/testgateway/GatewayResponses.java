@@ -0,0 +1,165 @@
+package com.braintreepayments.api.testgateway;
+
+import android.util.Base64;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Bodies of the gateway responses Drop-in reads.
+ */
+class GatewayResponses {
+
+    static final String MERCHANT_ID = "integration_merchant_id";
+    static final String AUTHORIZATION_FINGERPRINT = "test-gateway-authorization-fingerprint";
+
+    private GatewayResponses() {
+    }
+
+    static String clientToken(String baseUrl) {
+        try {
+            JSONObject clientToken = new JSONObject()
+                    .put("version", 2)
+                    .put("authorizationFingerprint", AUTHORIZATION_FINGERPRINT)
+                    .put("configUrl", baseUrl + "/merchants/" + MERCHANT_ID + "/client_api/v1/configuration");
+            return Base64.encodeToString(clientToken.toString().getBytes("UTF-8"), Base64.NO_WRAP);
+        } catch (JSONException | UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String configuration(String baseUrl) throws JSONException {
+        return new JSONObject()
+                .put("clientApiUrl", baseUrl + "/merchants/" + MERCHANT_ID + "/client_api")
+                .put("assetsUrl", baseUrl)
+                .put("environment", "development")
+                .put("merchantId", MERCHANT_ID)
+                .put("merchantAccountId", MERCHANT_ID + "_account")
+                // like the sandbox merchant used by the Demo app, so the card form is the same
+                .put("challenges", new JSONArray().put("cvv").put("postal_code"))
+                .put("paypalEnabled", true)
+                .put("paypal", new JSONObject()
+                        .put("displayName", "Test Gateway Merchant")
+                        .put("environment", "offline")
+                        .put("currencyIsoCode", "USD"))
+                .put("threeDSecureEnabled", false)
+                .put("graphQL", new JSONObject()
+                        .put("url", baseUrl + "/graphql")
+                        // cards are tokenized with the client API
+                        .put("features", new JSONArray()))
+                .put("creditCards", new JSONObject()
+                        .put("supportedCardTypes", new JSONArray()
+                                .put("American Express")
+                                .put("Discover")
+                                .put("JCB")
+                                .put("MasterCard")
+                                .put("Visa")))
+                .toString();
+    }
+
+    /**
+     * @return the payment method at {@code index} of a generated vault, in which every fourth
+     * payment method is a PayPal account and the remainder are cards
+     */
+    static JSONObject paymentMethod(int index) throws JSONException {
+        if (index % 4 == 3) {
+            return payPalAccount(index);
+        }
+        return card(index, "41111111111111" + String.format("%02d", index % 100));
+    }
+
+    static JSONObject card(int index, String number) throws JSONException {
+        String lastFour = number.substring(number.length() - 4);
+        String lastTwo = lastFour.substring(2);
+        return new JSONObject()
+                .put("type", "CreditCard")
+                .put("nonce", nonce(index))
+                .put("description", "ending in " + lastTwo)
+                .put("default", index == 0)
+                .put("isLocked", false)
+                .put("securityQuestions", new JSONArray())
+                .put("details", new JSONObject()
+                        .put("cardType", cardType(number))
+                        .put("lastTwo", lastTwo)
+                        .put("lastFour", lastFour));
+    }
+
+    private static String cardType(String number) {
+        if (number.startsWith("4")) {
+            return "Visa";
+        } else if (number.startsWith("34") || number.startsWith("37")) {
+            return "American Express";
+        } else if (number.startsWith("5") || number.startsWith("2")) {
+            return "MasterCard";
+        } else if (number.startsWith("6")) {
+            return "Discover";
+        } else if (number.startsWith("35")) {
+            return "JCB";
+        }
+        return "Unknown";
+    }
+
+    private static JSONObject payPalAccount(int index) throws JSONException {
+        String email = "customer" + index + "@example.com";
+        return new JSONObject()
+                .put("type", "PayPalAccount")
+                .put("nonce", nonce(index))
+                .put("description", "with email " + email)
+                .put("default", false)
+                .put("isLocked", false)
+                .put("securityQuestions", new JSONArray())
+                .put("details", new JSONObject().put("email", email));
+    }
+
+    static String nonce(int index) {
+        return String.format("00000000-0000-0000-0000-%012d", index);
+    }
+
+    static String tokenizedCard(JSONObject card) throws JSONException {
+        return new JSONObject()
+                .put("creditCards", new JSONArray().put(card))
+                .toString();
+    }
+
+    static String deletedPaymentMethod() throws JSONException {
+        return new JSONObject()
+                .put("data", new JSONObject()
+                        .put("deletePaymentMethodFromSingleUseToken", new JSONObject()
+                                .put("clientMutationId", JSONObject.NULL)))
+                .toString();
+    }
+
+    static String error(String message) throws JSONException {
+        return new JSONObject()
+                .put("error", new JSONObject().put("message", message))
+                .toString();
+    }
+
+    static String cardValidationError() throws JSONException {
+        return new JSONObject()
+                .put("error", new JSONObject().put("message", "Credit card is invalid"))
+                .put("fieldErrors", new JSONArray()
+                        .put(new JSONObject()
+                                .put("field", "creditCard")
+                                .put("fieldErrors", new JSONArray()
+                                        .put(new JSONObject()
+                                                .put("field", "number")
+                                                .put("code", "81715")
+                                                .put("message", "Credit card number is invalid")))))
+                .toString();
+    }
+
+    static String graphQLValidationError(String message) throws JSONException {
+        return new JSONObject()
+                .put("errors", new JSONArray()
+                        .put(new JSONObject()
+                                .put("message", message)
+                                .put("extensions", new JSONObject()
+                                        .put("errorType", "user_error")
+                                        .put("errorClass", "VALIDATION"))))
+                .toString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.braintreepayments.api.testgateway;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The payment methods in the customer's vault. Cards tokenized with validation are added and
+ * payment methods deleted by Drop-in are removed, so that the vault served to Drop-in reflects
+ * what happened earlier in the session.
+ */
+class GatewayVault {
+
+    private final List<JSONObject> paymentMethods = new ArrayList<>();
+    private int nextIndex;
+
+    /**
+     * Replace the payment methods in the vault with {@code vaultSize} generated ones; see
+     * {@link GatewayResponses#paymentMethod(int)}.
+     */
+    synchronized void reset(int vaultSize) throws JSONException {
+        paymentMethods.clear();
+        for (int i = 0; i < vaultSize; i++) {
+            paymentMethods.add(GatewayResponses.paymentMethod(i));
+        }
+        nextIndex = vaultSize;
+    }
+
+    /**
+     * @param number the card number sent by the SDK
+     * @param vault whether to keep the card in the vault
+     * @return the tokenized card
+     */
+    synchronized JSONObject addCard(String number, boolean vault) throws JSONException {
+        JSONObject card = GatewayResponses.card(nextIndex++, number);
+        if (vault) {
+            paymentMethods.add(0, card);
+        }
+        return card;
+    }
+
+    /**
+     * @return true if a payment method with the nonce was in the vault
+     */
+    synchronized boolean remove(String nonce) {
+        Iterator<JSONObject> iterator = paymentMethods.iterator();
+        while (iterator.hasNext()) {
+            if (nonce.equals(iterator.next().optString("nonce"))) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized int size() {
+        return paymentMethods.size();
+    }
+
+    synchronized String toPaymentMethodsResponse() throws JSONException {
+        return new JSONObject()
+                .put("paymentMethods", new JSONArray(paymentMethods))
+                .toString();
+    }
+}
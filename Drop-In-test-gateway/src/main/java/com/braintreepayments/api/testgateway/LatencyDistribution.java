@@ -0,0 +1,81 @@
+package com.braintreepayments.api.testgateway;
+
+import androidx.annotation.NonNull;
+
+import java.util.Random;
+
+/**
+ * The time {@link TestGateway} waits before it answers a request.
+ */
+public abstract class LatencyDistribution {
+
+    // z-score of the 95th percentile of the standard normal distribution
+    private static final double Z_95 = 1.6448536269514722;
+
+    LatencyDistribution() {
+    }
+
+    /**
+     * @return a distribution that answers immediately
+     */
+    @NonNull
+    public static LatencyDistribution none() {
+        return fixed(0);
+    }
+
+    /**
+     * @param millis the delay of every response
+     */
+    @NonNull
+    public static LatencyDistribution fixed(final long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("millis must not be negative");
+        }
+        return new LatencyDistribution() {
+            @Override
+            long sampleMillis(Random random) {
+                return millis;
+            }
+        };
+    }
+
+    /**
+     * @param minMillis the shortest delay
+     * @param maxMillis the longest delay
+     */
+    @NonNull
+    public static LatencyDistribution uniform(final long minMillis, final long maxMillis) {
+        if (minMillis < 0 || maxMillis < minMillis) {
+            throw new IllegalArgumentException("expected 0 <= minMillis <= maxMillis");
+        }
+        return new LatencyDistribution() {
+            @Override
+            long sampleMillis(Random random) {
+                return minMillis + (long) (random.nextDouble() * (maxMillis - minMillis + 1));
+            }
+        };
+    }
+
+    /**
+     * A log-normal distribution, which has the long tail of real network latencies.
+     *
+     * @param medianMillis half of the responses are faster than this
+     * @param p95Millis 95% of the responses are faster than this
+     */
+    @NonNull
+    public static LatencyDistribution logNormal(long medianMillis, long p95Millis) {
+        if (medianMillis <= 0 || p95Millis < medianMillis) {
+            throw new IllegalArgumentException("expected 0 < medianMillis <= p95Millis");
+        }
+        final double mu = Math.log(medianMillis);
+        final double sigma = Math.log((double) p95Millis / medianMillis) / Z_95;
+        return new LatencyDistribution() {
+            @Override
+            long sampleMillis(Random random) {
+                return Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+            }
+        };
+    }
+
+    abstract long sampleMillis(Random random);
+}
@@ -0,0 +1,319 @@
+package com.braintreepayments.api.testgateway;
+
+import androidx.annotation.NonNull;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.Charset;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An in-process stand-in for the Braintree gateway, so that Drop-in can be launched against
+ * reproducible responses without network access.
+ * <p>
+ * The gateway listens on the loopback interface. Authorize Drop-in with
+ * {@link #getClientToken()}; the client token points the Braintree SDK at this gateway for
+ * configuration and every subsequent request.
+ * <p>
+ * The gateway serves configuration, the customer's vault, card tokenization and the GraphQL
+ * mutation that deletes a vaulted payment method. How quickly and how reliably it answers is
+ * controlled with a {@link GatewayProfile}; the default profile answers immediately and never
+ * fails.
+ * <p>
+ * Apps that talk to the gateway over cleartext HTTP must allow it for the loopback address in
+ * their network security config.
+ */
+public class TestGateway {
+
+    public static final int DEFAULT_VAULT_SIZE = 3;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final int port;
+    private final String host;
+    private final String baseUrl;
+
+    private final GatewayVault vault = new GatewayVault();
+
+    private volatile GatewayProfile profile;
+    private volatile Random random;
+
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+
+    /**
+     * @param host the address the SDK uses to reach the gateway, e.g. {@code 127.0.0.1}
+     * @param port the port to listen on
+     */
+    public TestGateway(@NonNull String host, int port) {
+        this.host = host;
+        this.port = port;
+        this.baseUrl = "http://" + host + ":" + port;
+        applyProfile(GatewayProfile.instant());
+    }
+
+    public synchronized void start() throws IOException {
+        if (serverSocket != null) {
+            return;
+        }
+
+        serverSocket = new ServerSocket(port, 50, InetAddress.getByName(host));
+        executor = Executors.newCachedThreadPool();
+        final ServerSocket acceptingSocket = serverSocket;
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                acceptConnections(acceptingSocket);
+            }
+        });
+    }
+
+    public synchronized void stop() {
+        if (serverSocket == null) {
+            return;
+        }
+
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // the gateway is shutting down
+        }
+        executor.shutdownNow();
+        serverSocket = null;
+        executor = null;
+    }
+
+    /**
+     * Replace the customer's vault with {@code vaultSize} generated payment methods.
+     *
+     * @param vaultSize the number of payment methods in the customer's vault
+     */
+    public void setVaultSize(int vaultSize) {
+        try {
+            vault.reset(vaultSize);
+        } catch (JSONException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the number of payment methods currently in the customer's vault
+     */
+    public int getVaultSize() {
+        return vault.size();
+    }
+
+    /**
+     * Apply a profile to subsequent requests and replace the customer's vault with
+     * {@link GatewayProfile#getVaultSize()} generated payment methods.
+     */
+    public void setProfile(@NonNull GatewayProfile profile) {
+        applyProfile(profile);
+    }
+
+    @NonNull
+    public GatewayProfile getProfile() {
+        return profile;
+    }
+
+    private void applyProfile(GatewayProfile profile) {
+        this.random = new Random(profile.getSeed());
+        this.profile = profile;
+        setVaultSize(profile.getVaultSize());
+    }
+
+    @NonNull
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * @return a client token for a customer whose vault is served by this gateway
+     */
+    @NonNull
+    public String getClientToken() {
+        return GatewayResponses.clientToken(baseUrl);
+    }
+
+    private void acceptConnections(ServerSocket serverSocket) {
+        while (!serverSocket.isClosed()) {
+            final Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                // the server socket was closed by stop()
+                return;
+            } catch (IOException e) {
+                continue;
+            }
+
+            ExecutorService executor = this.executor;
+            if (executor == null) {
+                closeQuietly(socket);
+                return;
+            }
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    handleConnection(socket);
+                }
+            });
+        }
+    }
+
+    private void handleConnection(Socket socket) {
+        try {
+            GatewayRequest request = GatewayRequest.read(new BufferedInputStream(socket.getInputStream()));
+            writeResponse(socket.getOutputStream(), route(request));
+        } catch (IOException | JSONException ignored) {
+            // the client went away or sent a request the SDK would never send
+        } catch (InterruptedException e) {
+            // the gateway was stopped while the response was delayed
+            Thread.currentThread().interrupt();
+        } finally {
+            closeQuietly(socket);
+        }
+    }
+
+    private GatewayResponse route(GatewayRequest request) throws JSONException, InterruptedException {
+        GatewayEndpoint endpoint = findEndpoint(request);
+        if (endpoint == null) {
+            return new GatewayResponse(404, GatewayResponses.error("Not found: " + request.getPath()));
+        }
+
+        GatewayProfile profile = this.profile;
+        Random random = this.random;
+        long latencyMillis;
+        boolean fails;
+        synchronized (random) {
+            latencyMillis = profile.getLatency(endpoint).sampleMillis(random);
+            fails = random.nextDouble() < profile.getErrorRate(endpoint);
+        }
+
+        if (latencyMillis > 0) {
+            Thread.sleep(latencyMillis);
+        }
+        if (fails) {
+            return new GatewayResponse(profile.getErrorStatusCode(),
+                    GatewayResponses.error("Failure injected by the test gateway"));
+        }
+        return serve(endpoint, request);
+    }
+
+    private static GatewayEndpoint findEndpoint(GatewayRequest request) throws JSONException {
+        String method = request.getMethod();
+        String path = request.getPath();
+        if ("GET".equals(method) && path.endsWith("/client_api/v1/configuration")) {
+            return GatewayEndpoint.CONFIGURATION;
+        } else if ("GET".equals(method) && path.endsWith("/client_api/v1/payment_methods")) {
+            return GatewayEndpoint.PAYMENT_METHODS;
+        } else if ("POST".equals(method) && path.endsWith("/client_api/v1/payment_methods/credit_cards")) {
+            return GatewayEndpoint.TOKENIZE_CARD;
+        } else if ("POST".equals(method) && path.equals("/graphql")) {
+            String operationName = new JSONObject(request.getBody()).optString("operationName");
+            if ("DeletePaymentMethodFromSingleUseToken".equals(operationName)) {
+                return GatewayEndpoint.DELETE_PAYMENT_METHOD;
+            }
+        }
+        return null;
+    }
+
+    private GatewayResponse serve(GatewayEndpoint endpoint, GatewayRequest request) throws JSONException {
+        switch (endpoint) {
+            case CONFIGURATION:
+                return new GatewayResponse(200, GatewayResponses.configuration(baseUrl));
+            case PAYMENT_METHODS:
+                return new GatewayResponse(200, vault.toPaymentMethodsResponse());
+            case TOKENIZE_CARD:
+                return tokenizeCard(new JSONObject(request.getBody()));
+            case DELETE_PAYMENT_METHOD:
+                return deletePaymentMethod(new JSONObject(request.getBody()));
+            default:
+                throw new IllegalArgumentException("Unknown endpoint " + endpoint);
+        }
+    }
+
+    private GatewayResponse tokenizeCard(JSONObject body) throws JSONException {
+        JSONObject creditCard = body.optJSONObject("creditCard");
+        String number = (creditCard != null) ? creditCard.optString("number") : "";
+        if (!number.matches("[0-9]{12,19}")) {
+            return new GatewayResponse(422, GatewayResponses.cardValidationError());
+        }
+
+        // Drop-in validates the cards it vaults
+        JSONObject options = creditCard.optJSONObject("options");
+        boolean vaultCard = options != null && options.optBoolean("validate");
+        return new GatewayResponse(201, GatewayResponses.tokenizedCard(vault.addCard(number, vaultCard)));
+    }
+
+    private GatewayResponse deletePaymentMethod(JSONObject body) throws JSONException {
+        String nonce = body.getJSONObject("variables")
+                .getJSONObject("input")
+                .getString("singleUseTokenId");
+        if (vault.remove(nonce)) {
+            return new GatewayResponse(200, GatewayResponses.deletedPaymentMethod());
+        }
+        // GraphQL reports errors with a successful HTTP status
+        return new GatewayResponse(200, GatewayResponses.graphQLValidationError("Cannot find payment method"));
+    }
+
+    private static void writeResponse(OutputStream out, GatewayResponse response) throws IOException {
+        byte[] body = response.body.getBytes(UTF_8);
+        String head = "HTTP/1.1 " + response.statusCode + " " + reasonPhrase(response.statusCode) + "\r\n"
+                + "Content-Type: application/json; charset=utf-8\r\n"
+                + "Content-Length: " + body.length + "\r\n"
+                + "Connection: close\r\n"
+                + "\r\n";
+        out.write(head.getBytes(UTF_8));
+        out.write(body);
+        out.flush();
+    }
+
+    private static String reasonPhrase(int statusCode) {
+        switch (statusCode) {
+            case 200:
+                return "OK";
+            case 201:
+                return "Created";
+            case 404:
+                return "Not Found";
+            case 422:
+                return "Unprocessable Entity";
+            case 500:
+                return "Internal Server Error";
+            case 503:
+                return "Service Unavailable";
+            default:
+                return "Unknown";
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // nothing to do
+        }
+    }
+
+    private static class GatewayResponse {
+
+        final int statusCode;
+        final String body;
+
+        GatewayResponse(int statusCode, String body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+    }
+}
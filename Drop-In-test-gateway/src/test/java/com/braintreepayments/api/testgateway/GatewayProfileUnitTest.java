@@ -0,0 +1,94 @@
+package com.braintreepayments.api.testgateway;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GatewayProfileUnitTest {
+
+    @Test
+    public void constructor_setsDefaults() {
+        GatewayProfile sut = new GatewayProfile();
+
+        for (GatewayEndpoint endpoint : GatewayEndpoint.values()) {
+            assertEquals(0, sut.getLatency(endpoint).sampleMillis(new Random(0)));
+            assertEquals(0, sut.getErrorRate(endpoint), 0);
+        }
+        assertEquals(TestGateway.DEFAULT_VAULT_SIZE, sut.getVaultSize());
+        assertEquals(GatewayProfile.DEFAULT_ERROR_STATUS_CODE, sut.getErrorStatusCode());
+        assertEquals(GatewayProfile.DEFAULT_SEED, sut.getSeed());
+    }
+
+    @Test
+    public void setLatency_setsLatencyOfEveryEndpoint() {
+        LatencyDistribution latency = LatencyDistribution.fixed(100);
+        GatewayProfile sut = new GatewayProfile().setLatency(latency);
+
+        for (GatewayEndpoint endpoint : GatewayEndpoint.values()) {
+            assertSame(latency, sut.getLatency(endpoint));
+        }
+    }
+
+    @Test
+    public void setLatency_withEndpoint_setsLatencyOfOnlyThatEndpoint() {
+        LatencyDistribution latency = LatencyDistribution.fixed(100);
+        LatencyDistribution tokenizeLatency = LatencyDistribution.fixed(200);
+        GatewayProfile sut = new GatewayProfile()
+                .setLatency(latency)
+                .setLatency(GatewayEndpoint.TOKENIZE_CARD, tokenizeLatency);
+
+        assertSame(tokenizeLatency, sut.getLatency(GatewayEndpoint.TOKENIZE_CARD));
+        assertSame(latency, sut.getLatency(GatewayEndpoint.CONFIGURATION));
+    }
+
+    @Test
+    public void setErrorRate_withEndpoint_setsErrorRateOfOnlyThatEndpoint() {
+        GatewayProfile sut = new GatewayProfile()
+                .setErrorRate(0.5)
+                .setErrorRate(GatewayEndpoint.TOKENIZE_CARD, 1);
+
+        assertEquals(1, sut.getErrorRate(GatewayEndpoint.TOKENIZE_CARD), 0);
+        assertEquals(0.5, sut.getErrorRate(GatewayEndpoint.PAYMENT_METHODS), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setErrorRate_whenGreaterThanOne_throws() {
+        new GatewayProfile().setErrorRate(1.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setErrorRate_whenNegative_throws() {
+        new GatewayProfile().setErrorRate(GatewayEndpoint.CONFIGURATION, -0.1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setVaultSize_whenNegative_throws() {
+        new GatewayProfile().setVaultSize(-1);
+    }
+
+    @Test
+    public void flaky_failsOneInTenRequestsToEveryEndpoint() {
+        GatewayProfile sut = GatewayProfile.flaky();
+
+        for (GatewayEndpoint endpoint : GatewayEndpoint.values()) {
+            assertEquals(0.1, sut.getErrorRate(endpoint), 0);
+        }
+    }
+
+    @Test
+    public void slow_isSlowerThanTypical() {
+        Random random = new Random(0);
+        long typical = 0;
+        long slow = 0;
+        for (int i = 0; i < 1000; i++) {
+            typical += GatewayProfile.typical().getLatency(GatewayEndpoint.CONFIGURATION).sampleMillis(random);
+            slow += GatewayProfile.slow().getLatency(GatewayEndpoint.CONFIGURATION).sampleMillis(random);
+        }
+
+        assertTrue(slow > typical);
+    }
+}
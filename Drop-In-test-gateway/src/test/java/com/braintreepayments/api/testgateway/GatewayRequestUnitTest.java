@@ -0,0 +1,87 @@
+package com.braintreepayments.api.testgateway;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class GatewayRequestUnitTest {
+
+    @Test
+    public void read_parsesRequestLineAndHeaders() throws IOException {
+        GatewayRequest sut = GatewayRequest.read(stream(
+                "GET /merchants/id/client_api/v1/payment_methods?session_id=1&default_first=true HTTP/1.1\r\n"
+                        + "Host: 127.0.0.1:3000\r\n"
+                        + "Accept: application/json\r\n"
+                        + "\r\n"));
+
+        assertEquals("GET", sut.getMethod());
+        assertEquals("/merchants/id/client_api/v1/payment_methods", sut.getPath());
+        assertEquals("session_id=1&default_first=true", sut.getQuery());
+        assertEquals("application/json", sut.getHeader("accept"));
+        assertEquals("", sut.getBody());
+    }
+
+    @Test
+    public void read_withoutQuery_returnsEmptyQuery() throws IOException {
+        GatewayRequest sut = GatewayRequest.read(stream("GET /configuration HTTP/1.1\r\n\r\n"));
+
+        assertEquals("/configuration", sut.getPath());
+        assertEquals("", sut.getQuery());
+    }
+
+    @Test
+    public void getHeader_isCaseInsensitive() throws IOException {
+        GatewayRequest sut = GatewayRequest.read(stream(
+                "GET / HTTP/1.1\r\nUser-Agent: braintree/android\r\n\r\n"));
+
+        assertEquals("braintree/android", sut.getHeader("User-Agent"));
+        assertEquals("braintree/android", sut.getHeader("USER-AGENT"));
+        assertNull(sut.getHeader("Authorization"));
+    }
+
+    @Test
+    public void read_readsBodyWithContentLength() throws IOException {
+        String body = "{\"creditCard\":{\"number\":\"4111111111111111\"}}";
+        GatewayRequest sut = GatewayRequest.read(stream(
+                "POST /credit_cards HTTP/1.1\r\n"
+                        + "Content-Type: application/json\r\n"
+                        + "Content-Length: " + body.length() + "\r\n"
+                        + "\r\n"
+                        + body));
+
+        assertEquals("POST", sut.getMethod());
+        assertEquals(body, sut.getBody());
+    }
+
+    @Test
+    public void read_acceptsLineFeedLineEndings() throws IOException {
+        GatewayRequest sut = GatewayRequest.read(stream("GET / HTTP/1.1\nHost: localhost\n\n"));
+
+        assertEquals("localhost", sut.getHeader("host"));
+    }
+
+    @Test(expected = IOException.class)
+    public void read_whenRequestLineIsMalformed_throws() throws IOException {
+        GatewayRequest.read(stream("GET\r\n\r\n"));
+    }
+
+    @Test(expected = IOException.class)
+    public void read_whenHeadersAreTruncated_throws() throws IOException {
+        GatewayRequest.read(stream("GET / HTTP/1.1\r\nHost: localhost\r\n"));
+    }
+
+    @Test(expected = IOException.class)
+    public void read_whenBodyIsShorterThanContentLength_throws() throws IOException {
+        GatewayRequest.read(stream("POST / HTTP/1.1\r\nContent-Length: 10\r\n\r\n{}"));
+    }
+
+    private static InputStream stream(String request) {
+        return new ByteArrayInputStream(request.getBytes(Charset.forName("UTF-8")));
+    }
+}
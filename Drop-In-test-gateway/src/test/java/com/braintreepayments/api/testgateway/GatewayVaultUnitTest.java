@@ -0,0 +1,99 @@
+package com.braintreepayments.api.testgateway;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class GatewayVaultUnitTest {
+
+    private GatewayVault sut;
+
+    @Before
+    public void beforeEach() {
+        sut = new GatewayVault();
+    }
+
+    @Test
+    public void reset_generatesPaymentMethods() throws JSONException {
+        sut.reset(4);
+
+        JSONArray paymentMethods = getPaymentMethods();
+        assertEquals(4, sut.size());
+        assertEquals("CreditCard", paymentMethods.getJSONObject(0).getString("type"));
+        assertTrue(paymentMethods.getJSONObject(0).getBoolean("default"));
+        assertEquals("PayPalAccount", paymentMethods.getJSONObject(3).getString("type"));
+    }
+
+    @Test
+    public void reset_replacesPaymentMethods() throws JSONException {
+        sut.reset(4);
+        sut.reset(1);
+
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    public void addCard_whenVaulted_addsCardToTheFrontOfTheVault() throws JSONException {
+        sut.reset(2);
+
+        JSONObject card = sut.addCard("4111111111111111", true);
+
+        assertEquals(3, sut.size());
+        assertEquals(card.getString("nonce"), getPaymentMethods().getJSONObject(0).getString("nonce"));
+        assertEquals("Visa", card.getJSONObject("details").getString("cardType"));
+        assertEquals("1111", card.getJSONObject("details").getString("lastFour"));
+    }
+
+    @Test
+    public void addCard_whenNotVaulted_doesNotChangeTheVault() throws JSONException {
+        sut.reset(2);
+
+        sut.addCard("4111111111111111", false);
+
+        assertEquals(2, sut.size());
+    }
+
+    @Test
+    public void addCard_returnsANonceThatIsNotInTheVault() throws JSONException {
+        sut.reset(2);
+
+        JSONObject card = sut.addCard("4111111111111111", false);
+
+        JSONArray paymentMethods = getPaymentMethods();
+        for (int i = 0; i < paymentMethods.length(); i++) {
+            assertNotEquals(card.getString("nonce"), paymentMethods.getJSONObject(i).getString("nonce"));
+        }
+    }
+
+    @Test
+    public void remove_removesPaymentMethodWithNonce() throws JSONException {
+        sut.reset(2);
+        String nonce = getPaymentMethods().getJSONObject(1).getString("nonce");
+
+        assertTrue(sut.remove(nonce));
+        assertEquals(1, sut.size());
+        assertFalse(sut.remove(nonce));
+    }
+
+    @Test
+    public void remove_whenNonceIsNotInTheVault_returnsFalse() throws JSONException {
+        sut.reset(2);
+
+        assertFalse(sut.remove("not-a-nonce"));
+        assertEquals(2, sut.size());
+    }
+
+    private JSONArray getPaymentMethods() throws JSONException {
+        return new JSONObject(sut.toPaymentMethodsResponse()).getJSONArray("paymentMethods");
+    }
+}
@@ -0,0 +1,92 @@
+package com.braintreepayments.api.testgateway;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyDistributionUnitTest {
+
+    private static final int SAMPLE_COUNT = 10000;
+
+    @Test
+    public void none_returnsZero() {
+        assertEquals(0, LatencyDistribution.none().sampleMillis(new Random(0)));
+    }
+
+    @Test
+    public void fixed_returnsMillis() {
+        LatencyDistribution sut = LatencyDistribution.fixed(250);
+        Random random = new Random(0);
+
+        assertEquals(250, sut.sampleMillis(random));
+        assertEquals(250, sut.sampleMillis(random));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fixed_whenMillisIsNegative_throws() {
+        LatencyDistribution.fixed(-1);
+    }
+
+    @Test
+    public void uniform_returnsMillisBetweenMinAndMax() {
+        LatencyDistribution sut = LatencyDistribution.uniform(100, 200);
+        Random random = new Random(0);
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            long millis = sut.sampleMillis(random);
+            min = Math.min(min, millis);
+            max = Math.max(max, millis);
+        }
+
+        assertEquals(100, min);
+        assertEquals(200, max);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void uniform_whenMaxIsLessThanMin_throws() {
+        LatencyDistribution.uniform(200, 100);
+    }
+
+    @Test
+    public void logNormal_returnsMillisWithMedianAndP95() {
+        LatencyDistribution sut = LatencyDistribution.logNormal(120, 350);
+        Random random = new Random(0);
+
+        long[] samples = new long[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            samples[i] = sut.sampleMillis(random);
+        }
+        Arrays.sort(samples);
+
+        assertEquals(120, samples[SAMPLE_COUNT / 2], 120 * 0.05);
+        assertEquals(350, samples[SAMPLE_COUNT * 95 / 100], 350 * 0.05);
+        assertTrue(samples[0] >= 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void logNormal_whenMedianIsZero_throws() {
+        LatencyDistribution.logNormal(0, 100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void logNormal_whenP95IsLessThanMedian_throws() {
+        LatencyDistribution.logNormal(200, 100);
+    }
+
+    @Test
+    public void sampleMillis_withSameSeed_returnsSameSequence() {
+        LatencyDistribution sut = LatencyDistribution.logNormal(120, 350);
+        Random first = new Random(42);
+        Random second = new Random(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(sut.sampleMillis(first), sut.sampleMillis(second));
+        }
+    }
+}
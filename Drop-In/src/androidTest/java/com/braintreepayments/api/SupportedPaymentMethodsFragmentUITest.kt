@@ -13,6 +13,7 @@ import com.braintreepayments.api.dropin.R
 import org.hamcrest.Matchers.not
 import org.json.JSONObject
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
 import org.junit.Assert.assertTrue
 import org.junit.Before
 import org.junit.Test
@@ -76,6 +77,53 @@ class SupportedPaymentMethodsFragmentUITest {
         onView(withText("1111")).check(matches(isDisplayed()))
     }
 
+    @Test
+    fun whenStateIsRESUMED_whenLastKnownVaultedPaymentMethodsSet_displaysVaultedPaymentMethodsWithoutLoader() {
+        val dropInRequest = DropInRequest()
+        dropInRequest.isVaultManagerEnabled = false
+        val bundle = bundleOf("EXTRA_DROP_IN_REQUEST" to dropInRequest)
+
+        val scenario = FragmentScenario.launchInContainer(SupportedPaymentMethodsFragment::class.java, bundle)
+        scenario.moveToState(Lifecycle.State.RESUMED)
+
+        scenario.onFragment { fragment ->
+            fragment.dropInViewModel.setLastKnownVaultedPaymentMethods(vaultedPaymentMethods)
+        }
+
+        onView(isRoot()).perform(waitFor(500))
+        onView(withId(R.id.bt_select_payment_method_loader)).check(matches(not(isDisplayed())))
+        onView(withId(R.id.bt_vaulted_payment_methods)).check(matches(isDisplayed()))
+        onView(withText("1111")).check(matches(isDisplayed()))
+    }
+
+    @Test
+    fun whenStateIsRESUMED_whenLastKnownVaultedPaymentMethodsSet_disablesVaultedPaymentMethodsUntilRefreshed() {
+        val dropInRequest = DropInRequest()
+        dropInRequest.isVaultManagerEnabled = false
+        val bundle = bundleOf("EXTRA_DROP_IN_REQUEST" to dropInRequest)
+
+        val scenario = FragmentScenario.launchInContainer(SupportedPaymentMethodsFragment::class.java, bundle)
+        scenario.moveToState(Lifecycle.State.RESUMED)
+
+        scenario.onFragment { fragment ->
+            fragment.dropInViewModel.setLastKnownVaultedPaymentMethods(vaultedPaymentMethods)
+        }
+
+        onView(isRoot()).perform(waitFor(500))
+        scenario.onFragment { fragment ->
+            assertFalse(fragment.vaultedPaymentMethodsView.getChildAt(0).isEnabled)
+        }
+
+        scenario.onFragment { fragment ->
+            fragment.dropInViewModel.setVaultedPaymentMethods(vaultedPaymentMethods)
+        }
+
+        onView(isRoot()).perform(waitFor(500))
+        scenario.onFragment { fragment ->
+            assertTrue(fragment.vaultedPaymentMethodsView.getChildAt(0).isEnabled)
+        }
+    }
+
     @Test
     fun whenStateIsRESUMED_whenVaultManagerIsEnabledAndVaultedPaymentMethodsAreLoaded_displaysVaultedPaymentMethods() {
         val dropInRequest = DropInRequest()
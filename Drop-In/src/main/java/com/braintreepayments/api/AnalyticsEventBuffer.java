@@ -0,0 +1,103 @@
+package com.braintreepayments.api;
+
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hands Drop-in analytics events to {@link BraintreeClient} on a background thread.
+ * <p>
+ * Adding an event offers it to a bounded queue and, unless a dispatch is already pending,
+ * schedules one right away. Events are not held back to form larger batches, since
+ * {@link BraintreeClient} timestamps each event when it receives it and still sends each one on
+ * its own; events that arrive while a dispatch is pending are forwarded with it, in order. When
+ * the queue is full the oldest event is dropped.
+ */
+class AnalyticsEventBuffer {
+
+    static final int DEFAULT_CAPACITY = 100;
+
+    private static ExecutorService defaultExecutor;
+
+    private final BraintreeClient braintreeClient;
+    private final Executor executor;
+    private final BlockingQueue<String> events;
+
+    private final AtomicBoolean isFlushScheduled = new AtomicBoolean(false);
+
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            isFlushScheduled.set(false);
+            List<String> batch = new ArrayList<>();
+            events.drainTo(batch);
+            for (String eventName : batch) {
+                braintreeClient.sendAnalyticsEvent(eventName);
+            }
+        }
+    };
+
+    AnalyticsEventBuffer(BraintreeClient braintreeClient) {
+        this(braintreeClient, getDefaultExecutor(), DEFAULT_CAPACITY);
+    }
+
+    @VisibleForTesting
+    AnalyticsEventBuffer(BraintreeClient braintreeClient, Executor executor, int capacity) {
+        this.braintreeClient = braintreeClient;
+        this.executor = executor;
+        this.events = new ArrayBlockingQueue<>(capacity);
+    }
+
+    private static synchronized ExecutorService getDefaultExecutor() {
+        if (defaultExecutor == null) {
+            defaultExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(@NonNull final Runnable runnable) {
+                    return new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                            runnable.run();
+                        }
+                    }, "DropInAnalytics");
+                }
+            });
+        }
+        return defaultExecutor;
+    }
+
+    void add(String eventName) {
+        while (!events.offer(eventName)) {
+            events.poll();
+        }
+
+        if (isFlushScheduled.compareAndSet(false, true)) {
+            executor.execute(flushTask);
+        }
+    }
+
+    /**
+     * Forward all queued events on the background thread.
+     */
+    void flush() {
+        if (!events.isEmpty()) {
+            executor.execute(flushTask);
+        }
+    }
+
+    @VisibleForTesting
+    int size() {
+        return events.size();
+    }
+}
@@ -32,6 +32,9 @@ public class BottomSheetFragment extends Fragment implements BottomSheetPresente
     private DropInRequest dropInRequest;
     private BottomSheetPresenter bottomSheetPresenter;
 
+    @Nullable
+    private BottomSheetJankTracker jankTracker;
+
     static BottomSheetFragment from(DropInRequest dropInRequest) {
         BottomSheetFragment instance = new BottomSheetFragment();
 
@@ -115,6 +118,10 @@ public class BottomSheetFragment extends Fragment implements BottomSheetPresente
             }
         });
 
+        DropInSessionCache sessionCache = DropInSessionCache.forSession(
+                requireActivity().getIntent().getStringExtra(DropInClient.EXTRA_SESSION_ID));
+        jankTracker = new BottomSheetJankTracker(sessionCache);
+
         bottomSheetPresenter = new BottomSheetPresenter();
         bottomSheetPresenter.bind(this);
 
@@ -124,6 +131,9 @@ public class BottomSheetFragment extends Fragment implements BottomSheetPresente
     @Override
     public void onResume() {
         super.onResume();
+        if (jankTracker != null) {
+            jankTracker.start(requireActivity().getWindow());
+        }
 
         boolean isBottomSheetVisible =
             dropInViewModel.getBottomSheetState().getValue() == BottomSheetState.SHOWN;
@@ -134,6 +144,23 @@ public class BottomSheetFragment extends Fragment implements BottomSheetPresente
         }
     }
 
+    @Override
+    public void onPause() {
+        super.onPause();
+        if (jankTracker != null) {
+            jankTracker.stop();
+        }
+    }
+
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        if (jankTracker != null) {
+            jankTracker.stop();
+            jankTracker = null;
+        }
+    }
+
     @Override
     public void onDestroy() {
         super.onDestroy();
@@ -217,4 +244,18 @@ public class BottomSheetFragment extends Fragment implements BottomSheetPresente
     public View getBackgroundView() {
         return backgroundView;
     }
+
+    @Override
+    public void onTransitionStarted(String transition) {
+        if (jankTracker != null) {
+            jankTracker.onTransitionStarted(transition);
+        }
+    }
+
+    @Override
+    public void onTransitionEnded(String transition) {
+        if (jankTracker != null) {
+            jankTracker.onTransitionEnded();
+        }
+    }
 }
\ No newline at end of file
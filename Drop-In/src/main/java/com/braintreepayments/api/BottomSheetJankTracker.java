@@ -0,0 +1,142 @@
+package com.braintreepayments.api;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.FrameMetrics;
+import android.view.Window;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the duration of each frame drawn while the bottom sheet is shown with
+ * {@link FrameMetrics} and reports janky ones to the session's {@link DropInJankListener}, tagged
+ * with the bottom sheet transition that was running when the frame started. Frames are only
+ * tracked on API 26 and above, where frame start times are available.
+ * <p>
+ * Frame metrics are delivered on the main thread, where transitions are also reported, so the
+ * tracker is not synchronized.
+ */
+class BottomSheetJankTracker {
+
+    // a frame is janky when it takes more than twice the refresh interval, as in JankStats
+    private static final float JANK_MULTIPLIER = 2f;
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+
+    // frame metrics arrive after the frame is drawn, so recent transitions are kept to tag frames
+    // that started before the current transition
+    private static final int MAX_TRANSITIONS = 4;
+
+    private final DropInSessionCache sessionCache;
+    private final Deque<Transition> transitions = new ArrayDeque<>();
+
+    private long jankThresholdNanos = getJankThresholdNanos(DEFAULT_REFRESH_RATE);
+
+    private Window window;
+    private Window.OnFrameMetricsAvailableListener frameMetricsListener;
+
+    BottomSheetJankTracker(DropInSessionCache sessionCache) {
+        this.sessionCache = sessionCache;
+    }
+
+    /**
+     * Start tracking frames. Frames are tracked whether or not a {@link DropInJankListener} is
+     * set, so that a listener set while the bottom sheet is shown is notified.
+     */
+    void start(Window window) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O && frameMetricsListener == null) {
+            addFrameMetricsListener(window);
+        }
+    }
+
+    void stop() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O && frameMetricsListener != null) {
+            window.removeOnFrameMetricsAvailableListener(frameMetricsListener);
+        }
+        frameMetricsListener = null;
+        window = null;
+    }
+
+    @RequiresApi(Build.VERSION_CODES.O)
+    private void addFrameMetricsListener(Window window) {
+        float refreshRate = window.getWindowManager().getDefaultDisplay().getRefreshRate();
+        if (refreshRate > 0) {
+            jankThresholdNanos = getJankThresholdNanos(refreshRate);
+        }
+
+        this.window = window;
+        frameMetricsListener = new Window.OnFrameMetricsAvailableListener() {
+            @Override
+            public void onFrameMetricsAvailable(Window window, FrameMetrics frameMetrics, int dropCountSinceLastInvocation) {
+                onFrame(frameMetrics.getMetric(FrameMetrics.INTENDED_VSYNC_TIMESTAMP),
+                        frameMetrics.getMetric(FrameMetrics.TOTAL_DURATION));
+            }
+        };
+        window.addOnFrameMetricsAvailableListener(frameMetricsListener, new Handler(Looper.getMainLooper()));
+    }
+
+    /**
+     * @param frameStartNanos the start time of the frame, in the {@link System#nanoTime()} time base
+     * @param frameDurationNanos the time the frame took to draw
+     */
+    @VisibleForTesting
+    void onFrame(long frameStartNanos, long frameDurationNanos) {
+        DropInJankListener listener = sessionCache.getJankListener();
+        if (listener != null && frameDurationNanos > jankThresholdNanos) {
+            listener.onJankyFrame(new DropInJankFrame(
+                    getTransition(frameStartNanos), frameStartNanos, frameDurationNanos));
+        }
+    }
+
+    /**
+     * @param transition one of the transitions defined by {@link DropInJankFrame}
+     */
+    void onTransitionStarted(String transition) {
+        transitions.addLast(new Transition(transition, System.nanoTime()));
+        if (transitions.size() > MAX_TRANSITIONS) {
+            transitions.removeFirst();
+        }
+    }
+
+    void onTransitionEnded() {
+        Transition transition = transitions.peekLast();
+        if (transition != null && transition.endNanos == Long.MAX_VALUE) {
+            transition.endNanos = System.nanoTime();
+        }
+    }
+
+    @Nullable
+    private String getTransition(long frameStartNanos) {
+        Iterator<Transition> iterator = transitions.descendingIterator();
+        while (iterator.hasNext()) {
+            Transition transition = iterator.next();
+            if (frameStartNanos >= transition.startNanos && frameStartNanos <= transition.endNanos) {
+                return transition.name;
+            }
+        }
+        return null;
+    }
+
+    private static long getJankThresholdNanos(float refreshRate) {
+        return (long) (JANK_MULTIPLIER * TimeUnit.SECONDS.toNanos(1) / refreshRate);
+    }
+
+    private static class Transition {
+
+        final String name;
+        final long startNanos;
+        long endNanos = Long.MAX_VALUE;
+
+        Transition(String name, long startNanos) {
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import android.view.animation.DecelerateInterpolator;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.FragmentManager;
 import androidx.lifecycle.Lifecycle;
+import androidx.tracing.Trace;
 import androidx.viewpager2.widget.ViewPager2;
 
 import static com.braintreepayments.api.BottomSheetViewType.VAULT_MANAGER;
@@ -30,6 +31,8 @@ class BottomSheetPresenter {
         FragmentManager getChildFragmentManager();
         Lifecycle getLifecycle();
         DropInRequest getDropInRequest();
+        void onTransitionStarted(String transition);
+        void onTransitionEnded(String transition);
     }
 
     private ViewHolder viewHolder;
@@ -84,38 +87,45 @@ class BottomSheetPresenter {
     }
 
     void slideUpBottomSheet(final AnimationCompleteCallback callback) {
-        if (isUnbound()) {
-            return;
-        }
-
-        ViewPager2 viewPager = viewHolder.getViewPager();
-        View backgroundView = viewHolder.getBackgroundView();
-
-        ObjectAnimator backgroundFadeInAnimator =
-                ObjectAnimator.ofFloat(backgroundView, View.ALPHA, 0.0f, 1.0f);
-        backgroundFadeInAnimator.setDuration(BACKGROUND_FADE_ANIM_DURATION);
-
-        int viewPagerHeight = getViewGroupMeasuredHeight(viewPager);
-
-        viewPager.setTranslationY(viewPagerHeight);
-        ObjectAnimator slideUpAnimator =
-                ObjectAnimator.ofFloat(viewPager, View.TRANSLATION_Y, viewPagerHeight, 0);
-        slideUpAnimator.setInterpolator(new DecelerateInterpolator());
-        slideUpAnimator.setDuration(BOTTOM_SHEET_SLIDE_ANIM_DURATION);
-        slideUpAnimator.setStartDelay(BOTTOM_SHEET_SLIDE_UP_DELAY);
-
-        AnimatorSet animatorSet = new AnimatorSet();
-        animatorSet.play(slideUpAnimator).with(backgroundFadeInAnimator);
-        animatorSet.start();
-
-        animatorSet.addListener(new SimpleAnimatorListener() {
-            @Override
-            public void onAnimationEnd(Animator animation) {
-                callback.onAnimationComplete();
+        Trace.beginSection("BottomSheetPresenter.slideUpBottomSheet");
+        try {
+            if (isUnbound()) {
+                return;
             }
-        });
 
-        bottomSheetSlideUpAnimator = animatorSet;
+            ViewPager2 viewPager = viewHolder.getViewPager();
+            View backgroundView = viewHolder.getBackgroundView();
+
+            ObjectAnimator backgroundFadeInAnimator =
+                    ObjectAnimator.ofFloat(backgroundView, View.ALPHA, 0.0f, 1.0f);
+            backgroundFadeInAnimator.setDuration(BACKGROUND_FADE_ANIM_DURATION);
+
+            int viewPagerHeight = getViewGroupMeasuredHeight(viewPager);
+
+            viewPager.setTranslationY(viewPagerHeight);
+            ObjectAnimator slideUpAnimator =
+                    ObjectAnimator.ofFloat(viewPager, View.TRANSLATION_Y, viewPagerHeight, 0);
+            slideUpAnimator.setInterpolator(new DecelerateInterpolator());
+            slideUpAnimator.setDuration(BOTTOM_SHEET_SLIDE_ANIM_DURATION);
+            slideUpAnimator.setStartDelay(BOTTOM_SHEET_SLIDE_UP_DELAY);
+
+            AnimatorSet animatorSet = new AnimatorSet();
+            animatorSet.play(slideUpAnimator).with(backgroundFadeInAnimator);
+            viewHolder.onTransitionStarted(DropInJankFrame.SLIDE_UP);
+            animatorSet.start();
+
+            animatorSet.addListener(new SimpleAnimatorListener() {
+                @Override
+                public void onAnimationEnd(Animator animation) {
+                    notifyTransitionEnded(DropInJankFrame.SLIDE_UP);
+                    callback.onAnimationComplete();
+                }
+            });
+
+            bottomSheetSlideUpAnimator = animatorSet;
+        } finally {
+            Trace.endSection();
+        }
     }
 
     void slideDownBottomSheet(final AnimationCompleteCallback callback) {
@@ -144,10 +154,12 @@ class BottomSheetPresenter {
         animatorSet.addListener(new SimpleAnimatorListener() {
             @Override
             public void onAnimationEnd(Animator animation) {
+                notifyTransitionEnded(DropInJankFrame.SLIDE_DOWN);
                 callback.onAnimationComplete();
             }
         });
 
+        viewHolder.onTransitionStarted(DropInJankFrame.SLIDE_DOWN);
         animatorSet.start();
 
         bottomSheetSlideDownAnimator = animatorSet;
@@ -167,7 +179,13 @@ class BottomSheetPresenter {
 
         childFragmentList.add(VAULT_MANAGER);
         viewPagerAdapter.notifyDataSetChanged();
-        viewPagerAnimator.animateToPosition(viewPager, 1);
+        viewHolder.onTransitionStarted(DropInJankFrame.VAULT_MANAGER_ENTER);
+        viewPagerAnimator.animateToPosition(viewPager, 1, new AnimationCompleteCallback() {
+            @Override
+            public void onAnimationComplete() {
+                notifyTransitionEnded(DropInJankFrame.VAULT_MANAGER_ENTER);
+            }
+        });
     }
 
     void dismissVaultManager() {
@@ -176,10 +194,13 @@ class BottomSheetPresenter {
         }
 
         final ViewPager2 viewPager = viewHolder.getViewPager();
+        viewHolder.onTransitionStarted(DropInJankFrame.VAULT_MANAGER_EXIT);
         viewPagerAnimator.animateToPosition(viewPager, 0, new AnimationCompleteCallback() {
 
             @Override
             public void onAnimationComplete() {
+                notifyTransitionEnded(DropInJankFrame.VAULT_MANAGER_EXIT);
+
                 // revert layout height to wrap content
                 setViewGroupHeight(viewPager, ViewGroup.LayoutParams.WRAP_CONTENT);
                 viewHolder.requestLayout();
@@ -199,6 +220,13 @@ class BottomSheetPresenter {
         return (isSlidingUpBottomSheet || isSlidingDownBottomSheet);
     }
 
+    private void notifyTransitionEnded(String transition) {
+        // animations may end after the fragment has been destroyed
+        if (!isUnbound()) {
+            viewHolder.onTransitionEnded(transition);
+        }
+    }
+
     private int getViewGroupMeasuredHeight(ViewGroup viewGroup) {
         ViewGroup.LayoutParams viewPagerLayoutParams = viewGroup.getLayoutParams();
         viewGroup.measure(viewPagerLayoutParams.width, viewPagerLayoutParams.height);
@@ -6,6 +6,7 @@ import androidx.annotation.NonNull;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentManager;
 import androidx.lifecycle.Lifecycle;
+import androidx.tracing.Trace;
 import androidx.viewpager2.adapter.FragmentStateAdapter;
 
 class BottomSheetViewAdapter extends FragmentStateAdapter {
@@ -21,21 +22,26 @@ class BottomSheetViewAdapter extends FragmentStateAdapter {
     @NonNull
     @Override
     public Fragment createFragment(int position) {
-        BottomSheetViewType childFragment = childFragmentList.getItem(position);
-
-        Bundle args = new Bundle();
-        args.putParcelable("EXTRA_DROP_IN_REQUEST", dropInRequest);
-
-        switch (childFragment) {
-            case VAULT_MANAGER:
-                VaultManagerFragment vaultManagerFragment = new VaultManagerFragment();
-                vaultManagerFragment.setArguments(args);
-                return vaultManagerFragment;
-            default:
-            case SUPPORTED_PAYMENT_METHODS:
-                SupportedPaymentMethodsFragment fragment = new SupportedPaymentMethodsFragment();
-                fragment.setArguments(args);
-                return fragment;
+        Trace.beginSection("BottomSheetViewAdapter.createFragment");
+        try {
+            BottomSheetViewType childFragment = childFragmentList.getItem(position);
+
+            Bundle args = new Bundle();
+            args.putParcelable("EXTRA_DROP_IN_REQUEST", dropInRequest);
+
+            switch (childFragment) {
+                case VAULT_MANAGER:
+                    VaultManagerFragment vaultManagerFragment = new VaultManagerFragment();
+                    vaultManagerFragment.setArguments(args);
+                    return vaultManagerFragment;
+                default:
+                case SUPPORTED_PAYMENT_METHODS:
+                    SupportedPaymentMethodsFragment fragment = new SupportedPaymentMethodsFragment();
+                    fragment.setArguments(args);
+                    return fragment;
+            }
+        } finally {
+            Trace.endSection();
         }
     }
 
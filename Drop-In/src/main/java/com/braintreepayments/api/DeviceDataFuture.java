@@ -0,0 +1,134 @@
+package com.braintreepayments.api;
+
+import android.content.Context;
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Session-scoped result of {@link DataCollector#collectDeviceData(Context, DataCollectorCallback)}.
+ * <p>
+ * Collection can be started speculatively, before a payment method nonce exists, so that
+ * delivering a {@link DropInResult} only has to join the collection that is already running.
+ * Concurrent callers share a single collection. Device data is reused until it is older than the
+ * caller's freshness window, e.g. when a result is retried after a failed 3DS verification; errors
+ * are not cached.
+ * <p>
+ * {@link DataCollector} callbacks are not guaranteed to arrive on the main thread, so state is
+ * guarded by this object's lock and callbacks are notified without holding it. Callbacks are
+ * registered on behalf of a {@link Context}, usually the Drop-in activity, and are dropped with
+ * {@link #cancel(Context)} when it is destroyed so that a collection that never completes does not
+ * keep it alive.
+ */
+class DeviceDataFuture {
+
+    static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final List<PendingCallback> pendingCallbacks = new ArrayList<>();
+
+    private boolean isCollecting;
+    private String deviceData;
+    private long collectedAtMillis;
+
+    /**
+     * Start collecting device data, unless it is being collected or fresh device data has been
+     * collected already.
+     *
+     * @param ttlMillis maximum age of collected device data
+     */
+    void start(Context context, DataCollector dataCollector, long ttlMillis) {
+        join(context, dataCollector, ttlMillis, null);
+    }
+
+    /**
+     * Notify the callback with the collected device data, starting collection if necessary.
+     *
+     * @param context the context collection is started with; the callback is dropped when it is
+     * passed to {@link #cancel(Context)}
+     * @param ttlMillis maximum age of collected device data
+     */
+    void join(Context context, DataCollector dataCollector, long ttlMillis, @Nullable DataCollectorCallback callback) {
+        String freshDeviceData = null;
+        synchronized (this) {
+            if (deviceData != null) {
+                if (SystemClock.elapsedRealtime() - collectedAtMillis < ttlMillis) {
+                    freshDeviceData = deviceData;
+                } else {
+                    deviceData = null;
+                }
+            }
+
+            if (freshDeviceData == null) {
+                if (callback != null) {
+                    pendingCallbacks.add(new PendingCallback(context, callback));
+                }
+
+                if (isCollecting) {
+                    return;
+                }
+                isCollecting = true;
+            }
+        }
+
+        if (freshDeviceData != null) {
+            if (callback != null) {
+                callback.onResult(freshDeviceData, null);
+            }
+            return;
+        }
+
+        dataCollector.collectDeviceData(context, new DataCollectorCallback() {
+            @Override
+            public void onResult(@Nullable String deviceData, @Nullable Exception error) {
+                onDeviceDataResult(deviceData, error);
+            }
+        });
+    }
+
+    /**
+     * Drop the callbacks registered on behalf of the given context. Collection continues, and its
+     * result is reused by later callers while it is fresh.
+     */
+    synchronized void cancel(Context owner) {
+        Iterator<PendingCallback> iterator = pendingCallbacks.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().owner == owner) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void onDeviceDataResult(@Nullable String deviceData, @Nullable Exception error) {
+        List<PendingCallback> callbacks;
+        synchronized (this) {
+            isCollecting = false;
+            if (deviceData != null) {
+                this.deviceData = deviceData;
+                collectedAtMillis = SystemClock.elapsedRealtime();
+            }
+
+            callbacks = new ArrayList<>(pendingCallbacks);
+            pendingCallbacks.clear();
+        }
+
+        for (PendingCallback pendingCallback : callbacks) {
+            pendingCallback.callback.onResult(deviceData, error);
+        }
+    }
+
+    private static class PendingCallback {
+
+        final Context owner;
+        final DataCollectorCallback callback;
+
+        PendingCallback(Context owner, DataCollectorCallback callback) {
+            this.owner = owner;
+            this.callback = callback;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.braintreepayments.api;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.view.ViewTreeObserver;
 
 import androidx.activity.OnBackPressedCallback;
 import androidx.annotation.NonNull;
@@ -14,6 +15,7 @@ import androidx.fragment.app.FragmentManager;
 import androidx.fragment.app.FragmentResultListener;
 import androidx.lifecycle.Observer;
 import androidx.lifecycle.ViewModelProvider;
+import androidx.tracing.Trace;
 
 import com.braintreepayments.api.dropin.R;
 import com.google.android.material.snackbar.Snackbar;
@@ -35,6 +37,7 @@ public class DropInActivity extends AppCompatActivity {
 
     private DropInClient dropInClient;
     private FragmentContainerView fragmentContainerView;
+    private DropInLaunchTrace launchTrace;
 
     @VisibleForTesting
     DropInResult pendingDropInResult;
@@ -70,65 +73,134 @@ public class DropInActivity extends AppCompatActivity {
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
-        super.onCreate(savedInstanceState);
-        setContentView(R.layout.bt_drop_in_activity);
-
-        if (getDropInClient().getAuthorization() instanceof InvalidAuthorization) {
-            finishDropInWithError(
-                    new InvalidArgumentException("Tokenization Key or Client Token was invalid."));
-            return;
-        }
+        Trace.beginSection("DropInActivity.onCreate");
+        try {
+            super.onCreate(savedInstanceState);
+            setContentView(R.layout.bt_drop_in_activity);
+
+            if (getDropInClient().getAuthorization() instanceof InvalidAuthorization) {
+                finishDropInWithError(
+                        new InvalidArgumentException("Tokenization Key or Client Token was invalid."));
+                return;
+            }
 
-        alertPresenter = new AlertPresenter();
-        dropInRequest = getIntent().getParcelableExtra(DropInClient.EXTRA_CHECKOUT_REQUEST);
+            alertPresenter = new AlertPresenter();
+            dropInRequest = getIntent().getParcelableExtra(DropInClient.EXTRA_CHECKOUT_REQUEST);
 
-        dropInViewModel = new ViewModelProvider(this).get(DropInViewModel.class);
-        fragmentContainerView = findViewById(R.id.fragment_container_view);
+            dropInViewModel = new ViewModelProvider(this).get(DropInViewModel.class);
+            fragmentContainerView = findViewById(R.id.fragment_container_view);
 
-        getDropInClient().getSupportedPaymentMethods(this, new GetSupportedPaymentMethodsCallback() {
-            @Override
-            public void onResult(@Nullable List<DropInPaymentMethodType> paymentMethods, @Nullable Exception error) {
-                if (paymentMethods != null) {
-                    dropInViewModel.setSupportedPaymentMethods(paymentMethods);
-                } else {
-                    onError(error);
-                }
+            DropInSessionCache sessionCache =
+                    DropInSessionCache.forSession(getIntent().getStringExtra(DropInClient.EXTRA_SESSION_ID));
+            launchTrace = sessionCache.getLaunchTrace();
+            if (savedInstanceState == null) {
+                measureBottomSheetFirstRender();
+                endLaunchSpanOnNextDraw(DropInTraceSpan.LAUNCH_TO_FIRST_FRAME);
+                measurePaymentMethodsShown();
             }
-        });
 
-        getSupportFragmentManager().setFragmentResultListener(DropInEvent.REQUEST_KEY, this, new FragmentResultListener() {
-            @Override
-            public void onFragmentResult(@NonNull String requestKey, @NonNull Bundle result) {
-                onDropInEvent(DropInEvent.fromBundle(result));
-            }
-        });
+            applyPrefetchedResults(sessionCache);
 
-        getOnBackPressedDispatcher().addCallback(this, new OnBackPressedCallback(true) {
-            @Override
-            public void handleOnBackPressed() {
-                dropInViewModel.setBottomSheetState(BottomSheetState.HIDE_REQUESTED);
+            // device data is joined when a result is delivered instead of being collected afterwards
+            getDropInClient().startDeviceDataCollection(this);
+
+            if (dropInViewModel.getSupportedPaymentMethods().getValue() == null) {
+                getDropInClient().getSupportedPaymentMethods(this, new GetSupportedPaymentMethodsCallback() {
+                    @Override
+                    public void onResult(@Nullable List<DropInPaymentMethodType> paymentMethods, @Nullable Exception error) {
+                        if (paymentMethods != null) {
+                            dropInViewModel.setSupportedPaymentMethods(paymentMethods);
+                        } else {
+                            onError(error);
+                        }
+                    }
+                });
             }
-        });
 
-        dropInViewModel.getBottomSheetState().observe(this, new Observer<BottomSheetState>() {
-            @Override
-            public void onChanged(BottomSheetState bottomSheetState) {
-                switch (bottomSheetState) {
-                    case SHOWN:
-                        onDidShowBottomSheet();
-                        break;
-                    case HIDDEN:
-                        onDidHideBottomSheet();
-                        break;
-                    case HIDE_REQUESTED:
-                    case SHOW_REQUESTED:
-                    default:
-                        // do nothing
+            getSupportFragmentManager().setFragmentResultListener(DropInEvent.REQUEST_KEY, this, new FragmentResultListener() {
+                @Override
+                public void onFragmentResult(@NonNull String requestKey, @NonNull Bundle result) {
+                    onDropInEvent(DropInEvent.fromBundle(result));
+                }
+            });
+
+            getOnBackPressedDispatcher().addCallback(this, new OnBackPressedCallback(true) {
+                @Override
+                public void handleOnBackPressed() {
+                    dropInViewModel.setBottomSheetState(BottomSheetState.HIDE_REQUESTED);
                 }
+            });
+
+            dropInViewModel.getBottomSheetState().observe(this, new Observer<BottomSheetState>() {
+                @Override
+                public void onChanged(BottomSheetState bottomSheetState) {
+                    switch (bottomSheetState) {
+                        case SHOWN:
+                            launchTrace.end(DropInTraceSpan.LAUNCH_TO_BOTTOM_SHEET_SHOWN);
+                            onDidShowBottomSheet();
+                            break;
+                        case HIDDEN:
+                            onDidHideBottomSheet();
+                            break;
+                        case HIDE_REQUESTED:
+                        case SHOW_REQUESTED:
+                        default:
+                            // do nothing
+                    }
+                }
+            });
+
+            showBottomSheet();
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (launchTrace != null) {
+            // spans would include the time spent recreating the activity
+            launchTrace.cancel(new BraintreeException("Drop-in was destroyed before it was shown"));
+        }
+        if (dropInClient != null) {
+            // pending device data callbacks refer to this activity
+            dropInClient.cancelDeviceDataCallbacks(this);
+        }
+        if (isFinishing()) {
+            getDropInClient().flushAnalyticsEvents();
+            // configuration and Google Pay readiness may have changed by the next launch
+            getDropInClient().invalidateSupportedPaymentMethods();
+            DropInSessionCache.release(getIntent().getStringExtra(DropInClient.EXTRA_SESSION_ID));
+        }
+    }
+
+    private void applyPrefetchedResults(DropInSessionCache sessionCache) {
+        // results fetched by DropInClient#prefetch() are shown on the first frame of the bottom sheet
+        List<DropInPaymentMethodType> supportedPaymentMethods =
+                getDropInClient().getCachedSupportedPaymentMethods();
+        if (supportedPaymentMethods != null) {
+            dropInViewModel.setSupportedPaymentMethods(supportedPaymentMethods);
+        }
+
+        List<PaymentMethodNonce> vaultedPaymentMethods = getDropInClient().getCachedVaultedPaymentMethods();
+        if (vaultedPaymentMethods != null) {
+            dropInViewModel.setVaultedPaymentMethods(vaultedPaymentMethods);
+        } else if (clientTokenPresent && dropInViewModel.getVaultedPaymentMethods().getValue() == null) {
+            // draw the customer's vault from a previous session, or a prefetched one that has
+            // expired; it is refreshed once the bottom sheet is shown
+            List<PaymentMethodNonce> lastKnownVaultedPaymentMethods =
+                    getDropInClient().getLastKnownVaultedPaymentMethods();
+            if (lastKnownVaultedPaymentMethods != null) {
+                dropInViewModel.setLastKnownVaultedPaymentMethods(lastKnownVaultedPaymentMethods);
             }
-        });
+        }
 
-        showBottomSheet();
+        List<String> supportedCardTypes = sessionCache.getSupportedCardTypes();
+        if (supportedCardTypes != null) {
+            dropInViewModel.setSupportedCardTypes(
+                    Arrays.asList(DropInPaymentMethodType.getCardsTypes(supportedCardTypes)));
+        }
     }
 
     @VisibleForTesting
@@ -268,7 +340,6 @@ public class DropInActivity extends AppCompatActivity {
     }
 
     void refreshVaultedPaymentMethods() {
-        // TODO: consider caching nonces or use a ViewModel for handling nonces
         // TODO: show loading indicator while fetching vaulted payment methods
         getDropInClient().getVaultedPaymentMethods(this, new GetPaymentMethodNoncesCallback() {
             @Override
@@ -329,6 +400,9 @@ public class DropInActivity extends AppCompatActivity {
 
     void updateVaultedPaymentMethodNonces(boolean refetch) {
         if (clientTokenPresent) {
+            if (refetch) {
+                getDropInClient().invalidateVaultedPaymentMethods();
+            }
             getDropInClient().getVaultedPaymentMethods(this, new GetPaymentMethodNoncesCallback() {
                 @Override
                 public void onResult(@Nullable List<PaymentMethodNonce> vaultedPaymentMethods, @Nullable Exception error) {
@@ -363,6 +437,52 @@ public class DropInActivity extends AppCompatActivity {
                 .commit();
     }
 
+    private void measureBottomSheetFirstRender() {
+        final DropInTraceSpan span = getDropInClient().startSpan(DropInTraceSpan.BOTTOM_SHEET_FIRST_RENDER);
+        fragmentContainerView.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                Fragment bottomSheetFragment = getSupportFragmentManager().findFragmentByTag(BOTTOM_SHEET_TAG);
+                if (bottomSheetFragment != null && bottomSheetFragment.getView() != null) {
+                    fragmentContainerView.getViewTreeObserver().removeOnPreDrawListener(this);
+                    getDropInClient().endSpan(span, null);
+                }
+                return true;
+            }
+        });
+    }
+
+    private void measurePaymentMethodsShown() {
+        Observer<Object> observer = new Observer<Object>() {
+            @Override
+            public void onChanged(Object value) {
+                boolean supportedPaymentMethodsSet =
+                        dropInViewModel.getSupportedPaymentMethods().getValue() != null;
+                // the vault is only fetched when a client token is used
+                boolean vaultedPaymentMethodsSet = !clientTokenPresent
+                        || dropInViewModel.getVaultedPaymentMethods().getValue() != null;
+                if (supportedPaymentMethodsSet && vaultedPaymentMethodsSet) {
+                    dropInViewModel.getSupportedPaymentMethods().removeObserver(this);
+                    dropInViewModel.getVaultedPaymentMethods().removeObserver(this);
+                    endLaunchSpanOnNextDraw(DropInTraceSpan.LAUNCH_TO_PAYMENT_METHODS_SHOWN);
+                }
+            }
+        };
+        dropInViewModel.getSupportedPaymentMethods().observe(this, observer);
+        dropInViewModel.getVaultedPaymentMethods().observe(this, observer);
+    }
+
+    private void endLaunchSpanOnNextDraw(final String name) {
+        fragmentContainerView.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                fragmentContainerView.getViewTreeObserver().removeOnPreDrawListener(this);
+                launchTrace.end(name);
+                return true;
+            }
+        });
+    }
+
     private void showBottomSheet() {
         if (shouldAddFragment(BOTTOM_SHEET_TAG)) {
             BottomSheetFragment bottomSheetFragment = BottomSheetFragment.from(dropInRequest);
@@ -459,6 +579,10 @@ public class DropInActivity extends AppCompatActivity {
     }
 
     private void prefetchSupportedCardTypes() {
+        if (dropInViewModel.getSupportedCardTypes().getValue() != null) {
+            return;
+        }
+
         getDropInClient().getSupportedCardTypes(new GetSupportedCardTypesCallback() {
             @Override
             public void onResult(List<String> supportedCardTypes, Exception error) {
@@ -2,8 +2,8 @@ package com.braintreepayments.api;
 
 import android.content.Context;
 import android.content.Intent;
-import android.text.TextUtils;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.appcompat.app.AppCompatActivity;
@@ -27,30 +27,85 @@ public class DropInClient {
             "com.braintreepayments.api.dropin.LAST_USED_PAYMENT_METHOD_TYPE";
 
     private final BraintreeClient braintreeClient;
-    private final PaymentMethodClient paymentMethodClient;
-    private final GooglePayClient googlePayClient;
-    private final PayPalClient payPalClient;
-    private final VenmoClient venmoClient;
-    private final CardClient cardClient;
-    private final UnionPayClient unionPayClient;
+    private final Lazy<PaymentMethodClient> paymentMethodClient;
+    private final Lazy<GooglePayClient> googlePayClient;
+    private final Lazy<PayPalClient> payPalClient;
+    private final Lazy<VenmoClient> venmoClient;
+    private final Lazy<CardClient> cardClient;
+    private final Lazy<UnionPayClient> unionPayClient;
 
     private final DropInRequest dropInRequest;
-    private final ThreeDSecureClient threeDSecureClient;
-    private final DataCollector dataCollector;
-
-    private static DropInClientParams createDefaultParams(Context context, String authorization, DropInRequest dropInRequest) {
-        BraintreeClient braintreeClient = new BraintreeClient(context, authorization);
+    private final Lazy<ThreeDSecureClient> threeDSecureClient;
+    private final Lazy<DataCollector> dataCollector;
+
+    private final DropInSessionCache sessionCache;
+    private final AnalyticsEventBuffer analyticsEventBuffer;
+    private final long googlePayReadinessTtlMillis;
+    private final long vaultedPaymentMethodsTtlMillis;
+    private final long deviceDataTtlMillis;
+
+    private DropInTraceListener traceListener;
+    private DropInJankListener jankListener;
+
+    private static DropInClientParams createDefaultParams(Context context, String authorization, String sessionId, DropInRequest dropInRequest) {
+        final BraintreeClient braintreeClient = new BraintreeClient(context, authorization);
+        // a client created by the host application owns its cache; the client created by
+        // DropInActivity uses the cache registered by the client that launched it
+        DropInSessionCache sessionCache = (sessionId != null)
+                ? DropInSessionCache.forSession(sessionId)
+                : new DropInSessionCache(braintreeClient.getSessionId());
         return new DropInClientParams()
                 .dropInRequest(dropInRequest)
+                .sessionCache(sessionCache)
                 .braintreeClient(braintreeClient)
-                .threeDSecureClient(new ThreeDSecureClient(braintreeClient))
-                .paymentMethodClient(new PaymentMethodClient(braintreeClient))
-                .payPalClient(new PayPalClient(braintreeClient))
-                .venmoClient(new VenmoClient(braintreeClient))
-                .cardClient(new CardClient(braintreeClient))
-                .unionPayClient(new UnionPayClient(braintreeClient))
-                .dataCollector(new DataCollector(braintreeClient))
-                .googlePayClient(new GooglePayClient(braintreeClient));
+                .threeDSecureClient(new Lazy<ThreeDSecureClient>() {
+                    @Override
+                    ThreeDSecureClient initialize() {
+                        return new ThreeDSecureClient(braintreeClient);
+                    }
+                })
+                .paymentMethodClient(new Lazy<PaymentMethodClient>() {
+                    @Override
+                    PaymentMethodClient initialize() {
+                        return new PaymentMethodClient(braintreeClient);
+                    }
+                })
+                .payPalClient(new Lazy<PayPalClient>() {
+                    @Override
+                    PayPalClient initialize() {
+                        return new PayPalClient(braintreeClient);
+                    }
+                })
+                .venmoClient(new Lazy<VenmoClient>() {
+                    @Override
+                    VenmoClient initialize() {
+                        return new VenmoClient(braintreeClient);
+                    }
+                })
+                .cardClient(new Lazy<CardClient>() {
+                    @Override
+                    CardClient initialize() {
+                        return new CardClient(braintreeClient);
+                    }
+                })
+                .unionPayClient(new Lazy<UnionPayClient>() {
+                    @Override
+                    UnionPayClient initialize() {
+                        return new UnionPayClient(braintreeClient);
+                    }
+                })
+                .dataCollector(new Lazy<DataCollector>() {
+                    @Override
+                    DataCollector initialize() {
+                        return new DataCollector(braintreeClient);
+                    }
+                })
+                .googlePayClient(new Lazy<GooglePayClient>() {
+                    @Override
+                    GooglePayClient initialize() {
+                        return new GooglePayClient(braintreeClient);
+                    }
+                });
     }
 
     public DropInClient(Context context, String authorization, DropInRequest dropInRequest) {
@@ -59,56 +114,175 @@ public class DropInClient {
 
     DropInClient(Context context, String authorization, String sessionId, DropInRequest dropInRequest) {
         // TODO: instantiate a BraintreeClient with the input sessionId
-        this(createDefaultParams(context, authorization, dropInRequest));
+        this(createDefaultParams(context, authorization, sessionId, dropInRequest));
     }
 
     @VisibleForTesting
     DropInClient(DropInClientParams params) {
         this.dropInRequest = params.getDropInRequest();
         this.braintreeClient = params.getBraintreeClient();
-        this.googlePayClient = params.getGooglePayClient();
-        this.paymentMethodClient = params.getPaymentMethodClient();
-        this.threeDSecureClient = params.getThreeDSecureClient();
-        this.payPalClient = params.getPayPalClient();
-        this.venmoClient = params.getVenmoClient();
-        this.cardClient = params.getCardClient();
-        this.unionPayClient = params.getUnionPayClient();
-        this.dataCollector = params.getDataCollector();
+        this.googlePayClient = nonNull(params.getGooglePayClient());
+        this.paymentMethodClient = nonNull(params.getPaymentMethodClient());
+        this.threeDSecureClient = nonNull(params.getThreeDSecureClient());
+        this.payPalClient = nonNull(params.getPayPalClient());
+        this.venmoClient = nonNull(params.getVenmoClient());
+        this.cardClient = nonNull(params.getCardClient());
+        this.unionPayClient = nonNull(params.getUnionPayClient());
+        this.dataCollector = nonNull(params.getDataCollector());
+
+        DropInSessionCache sessionCache = params.getSessionCache();
+        this.sessionCache = (sessionCache != null) ? sessionCache : new DropInSessionCache();
+        this.googlePayReadinessTtlMillis = params.getGooglePayReadinessTtlMillis();
+        this.vaultedPaymentMethodsTtlMillis = params.getVaultedPaymentMethodsTtlMillis();
+        this.deviceDataTtlMillis = params.getDeviceDataTtlMillis();
+
+        AnalyticsEventBuffer analyticsEventBuffer = params.getAnalyticsEventBuffer();
+        this.analyticsEventBuffer = (analyticsEventBuffer != null)
+                ? analyticsEventBuffer : new AnalyticsEventBuffer(braintreeClient);
+
+        DropInTraceListener traceListener = params.getTraceListener();
+        if (traceListener != null) {
+            setTraceListener(traceListener);
+        }
+    }
+
+    private static <T> Lazy<T> nonNull(@Nullable Lazy<T> lazy) {
+        return (lazy != null) ? lazy : Lazy.<T>of(null);
     }
 
     Authorization getAuthorization() {
         return braintreeClient.getAuthorization();
     }
 
-    void getConfiguration(ConfigurationCallback callback) {
-        braintreeClient.getConfiguration(callback);
+    /**
+     * Receive a {@link DropInTraceSpan} for each operation performed by this client and by the
+     * Drop-in activity launched with {@link #launchDropInForResult(FragmentActivity, int)}.
+     *
+     * @param listener the listener to notify, or null to stop tracing
+     */
+    public void setTraceListener(@Nullable DropInTraceListener listener) {
+        // the session's tracer only holds the listener weakly
+        traceListener = listener;
+        sessionCache.getTracer().setListener(listener);
+    }
+
+    /**
+     * Report janky frames drawn by the bottom sheet of the Drop-in activity launched with
+     * {@link #launchDropInForResult(FragmentActivity, int)}. Frames are tracked on API 26 and
+     * above.
+     *
+     * @param listener the listener to notify, or null to stop reporting frames
+     */
+    public void setJankListener(@Nullable DropInJankListener listener) {
+        // the session cache only holds the listener weakly
+        jankListener = listener;
+        sessionCache.setJankListener(listener);
+    }
+
+    /**
+     * @return latency statistics for each type of operation Drop-in has completed in this process
+     * since it started or since {@link #resetLatencySnapshots()} was last called; operations that
+     * failed are not included
+     */
+    @NonNull
+    public List<DropInLatencySnapshot> getLatencySnapshots() {
+        return DropInLatencyMetrics.snapshot();
+    }
+
+    /**
+     * Discard all recorded latencies, e.g. after reporting the result of
+     * {@link #getLatencySnapshots()}.
+     */
+    public void resetLatencySnapshots() {
+        DropInLatencyMetrics.reset();
+    }
+
+    DropInTraceSpan startSpan(String name) {
+        String sessionId = sessionCache.getSessionId();
+        if (sessionId == null && braintreeClient != null) {
+            sessionId = braintreeClient.getSessionId();
+        }
+        return sessionCache.getTracer().startSpan(sessionId, name);
+    }
+
+    void endSpan(@Nullable DropInTraceSpan span, @Nullable Exception error) {
+        sessionCache.getTracer().endSpan(span, error);
+    }
+
+    void getConfiguration(final ConfigurationCallback callback) {
+        final DropInTraceSpan span = startSpan(DropInTraceSpan.CONFIGURATION_FETCH);
+        braintreeClient.getConfiguration(new ConfigurationCallback() {
+            @Override
+            public void onResult(@Nullable Configuration configuration, @Nullable Exception error) {
+                endSpan(span, error);
+                callback.onResult(configuration, error);
+            }
+        });
     }
 
     void sendAnalyticsEvent(String eventName) {
-        braintreeClient.sendAnalyticsEvent(eventName);
+        analyticsEventBuffer.add(eventName);
+    }
+
+    /**
+     * Forward queued analytics events, e.g. before the Drop-in activity is destroyed.
+     */
+    void flushAnalyticsEvents() {
+        analyticsEventBuffer.flush();
     }
 
-    void collectDeviceData(FragmentActivity activity, DataCollectorCallback callback) {
-        dataCollector.collectDeviceData(activity, callback);
+    /**
+     * Start collecting device data for the current session ahead of the first
+     * {@link DropInResult}, so that collection is off the critical path of a successful checkout.
+     */
+    void startDeviceDataCollection(FragmentActivity activity) {
+        sessionCache.getDeviceDataFuture().start(activity, dataCollector.get(), deviceDataTtlMillis);
+    }
+
+    /**
+     * Drop device data callbacks registered by the given activity, e.g. because it was destroyed
+     * before collection completed.
+     */
+    void cancelDeviceDataCallbacks(FragmentActivity activity) {
+        sessionCache.getDeviceDataFuture().cancel(activity);
+    }
+
+    /**
+     * Collect device data, reusing device data collected earlier in the session while it is
+     * fresh.
+     */
+    void collectDeviceData(FragmentActivity activity, final DataCollectorCallback callback) {
+        final DropInTraceSpan span = startSpan(DropInTraceSpan.DEVICE_DATA_COLLECTION);
+        sessionCache.getDeviceDataFuture().join(activity, dataCollector.get(), deviceDataTtlMillis, new DataCollectorCallback() {
+            @Override
+            public void onResult(@Nullable String deviceData, @Nullable Exception error) {
+                endSpan(span, error);
+                callback.onResult(deviceData, error);
+            }
+        });
     }
 
     void performThreeDSecureVerification(final FragmentActivity activity, PaymentMethodNonce paymentMethodNonce, final DropInResultCallback callback) {
         final ThreeDSecureRequest threeDSecureRequest = dropInRequest.getThreeDSecureRequest();
         threeDSecureRequest.setNonce(paymentMethodNonce.getString());
 
-        threeDSecureClient.performVerification(activity, threeDSecureRequest, new ThreeDSecureResultCallback() {
+        final DropInTraceSpan lookupSpan = startSpan(DropInTraceSpan.THREE_D_SECURE_LOOKUP);
+        threeDSecureClient.get().performVerification(activity, threeDSecureRequest, new ThreeDSecureResultCallback() {
             @Override
             public void onResult(@Nullable ThreeDSecureResult lookupResult, @Nullable Exception error) {
+                endSpan(lookupSpan, error);
                 if (lookupResult != null) {
-                    threeDSecureClient.continuePerformVerification(activity, threeDSecureRequest, lookupResult, new ThreeDSecureResultCallback() {
+                    final DropInTraceSpan continueSpan = startSpan(DropInTraceSpan.THREE_D_SECURE_CONTINUE);
+                    threeDSecureClient.get().continuePerformVerification(activity, threeDSecureRequest, lookupResult, new ThreeDSecureResultCallback() {
                         @Override
                         public void onResult(@Nullable ThreeDSecureResult threeDSecureResult, @Nullable Exception error) {
+                            endSpan(continueSpan, error);
                             if (error != null) {
                                 callback.onResult(null, error);
                             } else if (threeDSecureResult != null) {
                                 final DropInResult dropInResult = new DropInResult();
                                 dropInResult.paymentMethodNonce(threeDSecureResult.getTokenizedCard());
-                                dataCollector.collectDeviceData(activity, new DataCollectorCallback() {
+                                collectDeviceData(activity, new DataCollectorCallback() {
                                     @Override
                                     public void onResult(@Nullable String deviceData, @Nullable Exception error) {
                                         if (deviceData != null) {
@@ -129,9 +303,26 @@ public class DropInClient {
         });
     }
 
-    void shouldRequestThreeDSecureVerification(PaymentMethodNonce paymentMethodNonce, final ShouldRequestThreeDSecureVerification callback) {
-        if (paymentMethodCanPerformThreeDSecureVerification(paymentMethodNonce)) {
-            braintreeClient.getConfiguration(new ConfigurationCallback() {
+    /**
+     * Notifies the callback synchronously once the session's {@link ThreeDSecurePolicy} has been
+     * computed, which happens as soon as configuration is fetched for supported or vaulted
+     * payment methods.
+     */
+    void shouldRequestThreeDSecureVerification(final PaymentMethodNonce paymentMethodNonce, final ShouldRequestThreeDSecureVerification callback) {
+        Boolean threeDSecureEligibility = sessionCache.getThreeDSecureEligibility(paymentMethodNonce);
+        if (threeDSecureEligibility != null) {
+            callback.onResult(threeDSecureEligibility);
+            return;
+        }
+
+        ThreeDSecurePolicy threeDSecurePolicy = sessionCache.getThreeDSecurePolicy();
+        if (threeDSecurePolicy != null) {
+            callback.onResult(threeDSecurePolicy.shouldRequestThreeDSecureVerification(paymentMethodNonce));
+            return;
+        }
+
+        if (ThreeDSecurePolicy.canPerformThreeDSecureVerification(paymentMethodNonce)) {
+            getConfiguration(new ConfigurationCallback() {
                 @Override
                 public void onResult(@Nullable Configuration configuration, @Nullable Exception error) {
                     if (configuration == null) {
@@ -139,13 +330,8 @@ public class DropInClient {
                         return;
                     }
 
-                    boolean hasAmount = (dropInRequest.getThreeDSecureRequest() != null && !TextUtils.isEmpty(dropInRequest.getThreeDSecureRequest().getAmount()));
-
-                    boolean shouldRequestThreeDSecureVerification =
-                            dropInRequest.getRequestThreeDSecureVerification()
-                                    && configuration.isThreeDSecureEnabled()
-                                    && hasAmount;
-                    callback.onResult(shouldRequestThreeDSecureVerification);
+                    callback.onResult(updateThreeDSecurePolicy(configuration)
+                            .shouldRequestThreeDSecureVerification(paymentMethodNonce));
                 }
             });
 
@@ -154,65 +340,130 @@ public class DropInClient {
         }
     }
 
+    /**
+     * Records the 3DS decision for each vaulted payment method so selecting one can start 3DS or
+     * finish without evaluating the policy again.
+     */
+    private void annotateThreeDSecureEligibility(List<PaymentMethodNonce> paymentMethodNonces) {
+        ThreeDSecurePolicy threeDSecurePolicy = sessionCache.getThreeDSecurePolicy();
+        if (threeDSecurePolicy != null) {
+            sessionCache.setThreeDSecureEligibility(threeDSecurePolicy.evaluate(paymentMethodNonces));
+        }
+    }
+
+    private ThreeDSecurePolicy updateThreeDSecurePolicy(Configuration configuration) {
+        ThreeDSecurePolicy threeDSecurePolicy = ThreeDSecurePolicy.from(configuration, dropInRequest);
+        sessionCache.setThreeDSecurePolicy(threeDSecurePolicy);
+        return threeDSecurePolicy;
+    }
+
+    private void isReadyToPay(FragmentActivity activity, final GooglePayIsReadyToPayCallback callback) {
+        String key = GooglePayReadinessOracle.createKey(
+                braintreeClient.getAuthorization(), dropInRequest.getGooglePayRequest());
+        final DropInTraceSpan span = startSpan(DropInTraceSpan.GOOGLE_PAY_IS_READY_TO_PAY);
+        sessionCache.getGooglePayReadinessOracle()
+                .isReadyToPay(activity, googlePayClient.get(), key, googlePayReadinessTtlMillis, new GooglePayIsReadyToPayCallback() {
+                    @Override
+                    public void onResult(boolean isReadyToPay, Exception error) {
+                        endSpan(span, error);
+                        callback.onResult(isReadyToPay, error);
+                    }
+                });
+    }
+
+    /**
+     * Discard the cached Google Pay readiness answer and the supported payment methods that
+     * depend on it.
+     */
+    void invalidateGooglePayReadiness() {
+        sessionCache.getGooglePayReadinessOracle().invalidate();
+        invalidateSupportedPaymentMethods();
+    }
+
     void tokenizePayPalRequest(FragmentActivity activity, PayPalFlowStartedCallback callback) {
         PayPalRequest paypalRequest = dropInRequest.getPayPalRequest();
         if (paypalRequest == null) {
             paypalRequest = new PayPalVaultRequest();
         }
-        payPalClient.tokenizePayPalAccount(activity, paypalRequest, callback);
+        payPalClient.get().tokenizePayPalAccount(activity, paypalRequest, callback);
     }
 
     void requestGooglePayPayment(FragmentActivity activity, GooglePayRequestPaymentCallback callback) {
-        googlePayClient.requestPayment(activity, dropInRequest.getGooglePayRequest(), callback);
+        googlePayClient.get().requestPayment(activity, dropInRequest.getGooglePayRequest(), callback);
     }
 
     void tokenizeVenmoAccount(FragmentActivity activity, VenmoTokenizeAccountCallback callback) {
         // TODO: Add VenmoRequest setter to DropInRequest and remove DropInRequest#shouldVaultVenmo()
         VenmoRequest venmoRequest = new VenmoRequest(VenmoPaymentMethodUsage.SINGLE_USE);
         venmoRequest.setShouldVault(dropInRequest.getVaultVenmoDefaultValue());
-        venmoClient.tokenizeVenmoAccount(activity, venmoRequest, callback);
+        venmoClient.get().tokenizeVenmoAccount(activity, venmoRequest, callback);
     }
 
-    void deletePaymentMethod(FragmentActivity activity, PaymentMethodNonce paymentMethodNonce, DeletePaymentMethodNonceCallback callback) {
-        paymentMethodClient.deletePaymentMethod(activity, paymentMethodNonce, callback);
+    void deletePaymentMethod(FragmentActivity activity, PaymentMethodNonce paymentMethodNonce, final DeletePaymentMethodNonceCallback callback) {
+        paymentMethodClient.get().deletePaymentMethod(activity, paymentMethodNonce, new DeletePaymentMethodNonceCallback() {
+            @Override
+            public void onResult(@Nullable PaymentMethodNonce deletedNonce, @Nullable Exception error) {
+                if (deletedNonce != null) {
+                    sessionCache.getVaultedPaymentMethodsCache().remove(deletedNonce);
+                    sessionCache.setVaultedPaymentMethods(null);
+                    DropInSessionCache.setLastKnownVaultedPaymentMethods(getVaultKey(), null);
+                }
+                callback.onResult(deletedNonce, error);
+            }
+        });
     }
 
-    void tokenizeCard(Card card, CardTokenizeCallback callback) {
-        cardClient.tokenize(card, callback);
+    void tokenizeCard(Card card, final CardTokenizeCallback callback) {
+        final DropInTraceSpan span = startSpan(DropInTraceSpan.CARD_TOKENIZATION);
+        cardClient.get().tokenize(card, new CardTokenizeCallback() {
+            @Override
+            public void onResult(@Nullable CardNonce cardNonce, @Nullable Exception error) {
+                endSpan(span, error);
+                if (cardNonce != null) {
+                    invalidateVaultedPaymentMethods();
+                }
+                callback.onResult(cardNonce, error);
+            }
+        });
     }
 
     void fetchUnionPayCapabilities(String cardNumber, UnionPayFetchCapabilitiesCallback callback) {
-        unionPayClient.fetchCapabilities(cardNumber, callback);
+        unionPayClient.get().fetchCapabilities(cardNumber, callback);
     }
 
     void enrollUnionPay(UnionPayCard unionPayCard, UnionPayEnrollCallback callback) {
-        unionPayClient.enroll(unionPayCard, callback);
+        unionPayClient.get().enroll(unionPayCard, callback);
     }
 
     void tokenizeUnionPay(UnionPayCard unionPayCard, UnionPayTokenizeCallback callback) {
-        unionPayClient.tokenize(unionPayCard, callback);
+        unionPayClient.get().tokenize(unionPayCard, callback);
     }
 
     BrowserSwitchResult getBrowserSwitchResult(FragmentActivity activity) {
         return braintreeClient.getBrowserSwitchResult(activity);
     }
 
-    public void deliverBrowserSwitchResult(final FragmentActivity activity, final DropInResultCallback callback) {
+    public void deliverBrowserSwitchResult(final FragmentActivity activity, DropInResultCallback dropInResultCallback) {
         BrowserSwitchResult browserSwitchResult = braintreeClient.deliverBrowserSwitchResult(activity);
         if (browserSwitchResult != null) {
             int requestCode = browserSwitchResult.getRequestCode();
+            final DropInResultCallback callback =
+                    tracedDropInResultCallback(DropInTraceSpan.BROWSER_SWITCH_RESULT, dropInResultCallback);
 
             switch (requestCode) {
                 case BraintreeRequestCodes.PAYPAL:
-                    payPalClient.onBrowserSwitchResult(browserSwitchResult, new PayPalBrowserSwitchResultCallback() {
+                    payPalClient.get().onBrowserSwitchResult(browserSwitchResult, new PayPalBrowserSwitchResultCallback() {
                         @Override
                         public void onResult(@Nullable PayPalAccountNonce payPalAccountNonce, @Nullable Exception error) {
+                            if (payPalAccountNonce != null && !(dropInRequest.getPayPalRequest() instanceof PayPalCheckoutRequest)) {
+                                invalidateVaultedPaymentMethods();
+                            }
                             notifyDropInResult(activity, payPalAccountNonce, error, callback);
                         }
                     });
                     break;
                 case BraintreeRequestCodes.THREE_D_SECURE:
-                    threeDSecureClient.onBrowserSwitchResult(browserSwitchResult, new ThreeDSecureResultCallback() {
+                    threeDSecureClient.get().onBrowserSwitchResult(browserSwitchResult, new ThreeDSecureResultCallback() {
                         @Override
                         public void onResult(@Nullable ThreeDSecureResult threeDSecureResult, @Nullable Exception error) {
                             PaymentMethodNonce paymentMethodNonce = null;
@@ -227,7 +478,9 @@ public class DropInClient {
         }
     }
 
-    void handleActivityResult(FragmentActivity activity, int requestCode, int resultCode, @Nullable Intent data, DropInResultCallback callback) {
+    void handleActivityResult(FragmentActivity activity, int requestCode, int resultCode, @Nullable Intent data, DropInResultCallback dropInResultCallback) {
+        DropInResultCallback callback =
+                tracedDropInResultCallback(DropInTraceSpan.ACTIVITY_RESULT, dropInResultCallback);
         switch (requestCode) {
             case BraintreeRequestCodes.THREE_D_SECURE:
                 handleThreeDSecureActivityResult(activity, resultCode, data, callback);
@@ -241,7 +494,7 @@ public class DropInClient {
     }
 
     void handleThreeDSecureActivityResult(final FragmentActivity activity, int resultCode, Intent data, final DropInResultCallback callback) {
-        threeDSecureClient.onActivityResult(resultCode, data, new ThreeDSecureResultCallback() {
+        threeDSecureClient.get().onActivityResult(resultCode, data, new ThreeDSecureResultCallback() {
             @Override
             public void onResult(@Nullable ThreeDSecureResult threeDSecureResult, @Nullable Exception error) {
                 PaymentMethodNonce paymentMethodNonce = null;
@@ -254,7 +507,7 @@ public class DropInClient {
     }
 
     void handleGooglePayActivityResult(final FragmentActivity activity, int resultCode, Intent data, final DropInResultCallback callback) {
-        googlePayClient.onActivityResult(resultCode, data, new GooglePayOnActivityResultCallback() {
+        googlePayClient.get().onActivityResult(resultCode, data, new GooglePayOnActivityResultCallback() {
             @Override
             public void onResult(@Nullable PaymentMethodNonce paymentMethodNonce, @Nullable Exception error) {
                notifyDropInResult(activity, paymentMethodNonce, error, callback);
@@ -263,14 +516,28 @@ public class DropInClient {
     }
 
     void handleVenmoActivityResult(final FragmentActivity activity, int resultCode, Intent data, final DropInResultCallback callback) {
-        venmoClient.onActivityResult(activity, resultCode, data, new VenmoOnActivityResultCallback() {
+        venmoClient.get().onActivityResult(activity, resultCode, data, new VenmoOnActivityResultCallback() {
             @Override
             public void onResult(@Nullable VenmoAccountNonce venmoAccountNonce, @Nullable Exception error) {
+                if (venmoAccountNonce != null && dropInRequest.getVaultVenmoDefaultValue()) {
+                    invalidateVaultedPaymentMethods();
+                }
                 notifyDropInResult(activity, venmoAccountNonce, error, callback);
             }
         });
     }
 
+    private DropInResultCallback tracedDropInResultCallback(String spanName, final DropInResultCallback callback) {
+        final DropInTraceSpan span = startSpan(spanName);
+        return new DropInResultCallback() {
+            @Override
+            public void onResult(@Nullable DropInResult dropInResult, @Nullable Exception error) {
+                endSpan(span, error);
+                callback.onResult(dropInResult, error);
+            }
+        };
+    }
+
     private void notifyDropInResult(FragmentActivity activity, PaymentMethodNonce paymentMethodNonce, Exception dropInResultError, final DropInResultCallback callback) {
         if (dropInResultError != null) {
             callback.onResult(null, dropInResultError);
@@ -279,7 +546,7 @@ public class DropInClient {
 
         final DropInResult dropInResult = new DropInResult()
                 .paymentMethodNonce(paymentMethodNonce);
-        dataCollector.collectDeviceData(activity, new DataCollectorCallback() {
+        collectDeviceData(activity, new DataCollectorCallback() {
             @Override
             public void onResult(@Nullable String deviceData, @Nullable Exception dataCollectionError) {
                 if (dataCollectionError != null) {
@@ -295,46 +562,101 @@ public class DropInClient {
         });
     }
 
-    private boolean paymentMethodCanPerformThreeDSecureVerification(final PaymentMethodNonce paymentMethodNonce) {
-        if (paymentMethodNonce instanceof CardNonce) {
-            return true;
+    /**
+     * @return the supported payment methods computed for the current session, or null if none
+     * were computed or the Google Pay readiness answer they were computed from has expired
+     */
+    @Nullable
+    List<DropInPaymentMethodType> getCachedSupportedPaymentMethods() {
+        List<DropInPaymentMethodType> cachedPaymentMethods = sessionCache.getSupportedPaymentMethods();
+        if (cachedPaymentMethods == null || dropInRequest.isGooglePayDisabled()) {
+            return cachedPaymentMethods;
         }
 
-        if (paymentMethodNonce instanceof GooglePayCardNonce) {
-            return !((GooglePayCardNonce) paymentMethodNonce).isNetworkTokenized();
+        String key = GooglePayReadinessOracle.createKey(
+                braintreeClient.getAuthorization(), dropInRequest.getGooglePayRequest());
+        if (!sessionCache.getGooglePayReadinessOracle().hasAnswer(key, googlePayReadinessTtlMillis)) {
+            sessionCache.setSupportedPaymentMethods(null);
+            return null;
         }
-
-        return false;
+        return cachedPaymentMethods;
     }
 
     void getSupportedPaymentMethods(final FragmentActivity activity, final GetSupportedPaymentMethodsCallback callback) {
-        braintreeClient.getConfiguration(new ConfigurationCallback() {
+        List<DropInPaymentMethodType> cachedPaymentMethods = getCachedSupportedPaymentMethods();
+        if (cachedPaymentMethods != null) {
+            callback.onResult(cachedPaymentMethods, null);
+            return;
+        }
+
+        // callers that arrive while a fetch for the session is in flight share its result
+        if (!sessionCache.addPendingSupportedPaymentMethodsCallback(callback)) {
+            return;
+        }
+
+        getConfiguration(new ConfigurationCallback() {
             @Override
             public void onResult(@Nullable final Configuration configuration, @Nullable Exception error) {
                 if (error != null) {
-                    callback.onResult(null, error);
+                    notifySupportedPaymentMethodsResult(null, error, false);
                     return;
                 }
+                updateThreeDSecurePolicy(configuration);
 
                 if (!dropInRequest.isGooglePayDisabled()) {
-                    googlePayClient.isReadyToPay(activity, new GooglePayIsReadyToPayCallback() {
+                    isReadyToPay(activity, new GooglePayIsReadyToPayCallback() {
                         @Override
                         public void onResult(boolean isReadyToGooglePay, Exception error) {
 
                             List<DropInPaymentMethodType> availablePaymentMethods =
                                 filterSupportedPaymentMethods(configuration, isReadyToGooglePay);
-                            callback.onResult(availablePaymentMethods, null);
+                            // a failed readiness check hides Google Pay for this call only
+                            notifySupportedPaymentMethodsResult(availablePaymentMethods, null, error == null);
                         }
                     });
                 } else {
                     List<DropInPaymentMethodType> availablePaymentMethods =
                             filterSupportedPaymentMethods(configuration, false);
-                    callback.onResult(availablePaymentMethods, null);
+                    notifySupportedPaymentMethodsResult(availablePaymentMethods, null, true);
                 }
             }
         });
     }
 
+    private void notifySupportedPaymentMethodsResult(@Nullable List<DropInPaymentMethodType> paymentMethods, @Nullable Exception error, boolean cacheable) {
+        if (cacheable) {
+            sessionCache.setSupportedPaymentMethods(paymentMethods);
+        }
+
+        List<GetSupportedPaymentMethodsCallback> callbacks =
+                sessionCache.takePendingSupportedPaymentMethodsCallbacks();
+        for (GetSupportedPaymentMethodsCallback callback : callbacks) {
+            callback.onResult(paymentMethods, error);
+        }
+    }
+
+    /**
+     * Discard the supported payment methods computed for the current session. Called by
+     * {@link DropInActivity} when it finishes, so that each launch computes them at most once. The
+     * next call to
+     * {@link #getSupportedPaymentMethods(FragmentActivity, GetSupportedPaymentMethodsCallback)}
+     * will fetch configuration and Google Pay readiness again; both are answered from their own
+     * caches while those are fresh.
+     */
+    void invalidateSupportedPaymentMethods() {
+        sessionCache.setSupportedPaymentMethods(null);
+    }
+
+    /**
+     * Discard the vaulted payment methods cached for the current session. The next call to
+     * {@link #getVaultedPaymentMethods(FragmentActivity, GetPaymentMethodNoncesCallback)} will
+     * fetch them from the Braintree gateway.
+     */
+    void invalidateVaultedPaymentMethods() {
+        sessionCache.getVaultedPaymentMethodsCache().invalidate();
+        sessionCache.setVaultedPaymentMethods(null);
+    }
+
     private List<DropInPaymentMethodType> filterSupportedPaymentMethods(Configuration configuration, boolean showGooglePay) {
         List<DropInPaymentMethodType> availablePaymentMethods = new ArrayList<>();
 
@@ -366,7 +688,7 @@ public class DropInClient {
     }
 
     void getSupportedCardTypes(final GetSupportedCardTypesCallback callback) {
-        braintreeClient.getConfiguration(new ConfigurationCallback() {
+        getConfiguration(new ConfigurationCallback() {
             @Override
             public void onResult(@Nullable Configuration configuration, @Nullable Exception error) {
                 if (configuration != null) {
@@ -382,11 +704,56 @@ public class DropInClient {
         });
     }
 
+    /**
+     * Called to fetch the configuration, vaulted payment methods, Google Pay readiness and
+     * supported card types ahead of {@link #launchDropInForResult(FragmentActivity, int)}. Results
+     * are held in-process for the current Drop-in session so that Drop-in can display payment
+     * methods as soon as it is shown.
+     * <p>
+     * Call this method from the screen that precedes checkout, e.g. a cart screen. Errors are
+     * ignored; Drop-in will fetch any missing results again when it is launched.
+     *
+     * @param activity the current {@link FragmentActivity}
+     */
+    public void prefetch(FragmentActivity activity) {
+        // getSupportedPaymentMethods stores its result in the session cache
+        getSupportedPaymentMethods(activity, new GetSupportedPaymentMethodsCallback() {
+            @Override
+            public void onResult(@Nullable List<DropInPaymentMethodType> paymentMethods, @Nullable Exception error) {
+                // errors are ignored; see above
+            }
+        });
+
+        getSupportedCardTypes(new GetSupportedCardTypesCallback() {
+            @Override
+            public void onResult(List<String> supportedCardTypes, Exception error) {
+                if (supportedCardTypes != null) {
+                    sessionCache.setSupportedCardTypes(supportedCardTypes);
+                }
+            }
+        });
+
+        if (braintreeClient.getAuthorization() instanceof ClientToken) {
+            getVaultedPaymentMethods(activity, new GetPaymentMethodNoncesCallback() {
+                @Override
+                public void onResult(@Nullable List<PaymentMethodNonce> paymentMethodNonceList, @Nullable Exception error) {
+                    if (paymentMethodNonceList != null) {
+                        sessionCache.setVaultedPaymentMethods(paymentMethodNonceList);
+                    }
+                }
+            });
+        }
+    }
+
     public void launchDropInForResult(FragmentActivity activity, int requestCode) {
         Intent intent = new Intent(activity, DropInActivity.class)
                 .putExtra(EXTRA_CHECKOUT_REQUEST, dropInRequest)
                 .putExtra(EXTRA_SESSION_ID, braintreeClient.getSessionId())
                 .putExtra(EXTRA_AUTHORIZATION, braintreeClient.getAuthorization().toString());
+        // released by DropInActivity when it finishes; launch spans are ended by the activity
+        String sessionId = braintreeClient.getSessionId();
+        DropInSessionCache.register(sessionId, sessionCache);
+        sessionCache.getLaunchTrace().start(sessionId);
         activity.startActivityForResult(intent, requestCode);
     }
 
@@ -413,7 +780,7 @@ public class DropInClient {
                 .getString(LAST_USED_PAYMENT_METHOD_TYPE, null));
 
         if (lastUsedPaymentMethodType == DropInPaymentMethodType.GOOGLE_PAYMENT) {
-            googlePayClient.isReadyToPay(activity, new GooglePayIsReadyToPayCallback() {
+            isReadyToPay(activity, new GooglePayIsReadyToPayCallback() {
                 @Override
                 public void onResult(boolean isReadyToPay, Exception error) {
                     if (isReadyToPay) {
@@ -431,7 +798,7 @@ public class DropInClient {
     }
 
     private void getPaymentMethodNonces(final FetchMostRecentPaymentMethodCallback callback) {
-        paymentMethodClient.getPaymentMethodNonces(new GetPaymentMethodNoncesCallback() {
+        fetchPaymentMethodNonces(new GetPaymentMethodNoncesCallback() {
             @Override
             public void onResult(@Nullable List<PaymentMethodNonce> paymentMethodNonceList, @Nullable Exception error) {
                 if (paymentMethodNonceList != null) {
@@ -448,41 +815,107 @@ public class DropInClient {
         });
     }
 
-    void getVaultedPaymentMethods(final FragmentActivity activity, final GetPaymentMethodNoncesCallback callback) {
-        // TODO: cache nonces in ViewModel and allow refresh of vaulted payment methods instead of having a refetch parameter
+    /**
+     * @return the vaulted payment methods most recently returned by
+     * {@link #getVaultedPaymentMethods(FragmentActivity, GetPaymentMethodNoncesCallback)} for the
+     * current customer in this or a previous session; null if there are none. The list may be out
+     * of date and should only be shown until an up to date list is available.
+     */
+    @Nullable
+    List<PaymentMethodNonce> getLastKnownVaultedPaymentMethods() {
+        return DropInSessionCache.getLastKnownVaultedPaymentMethods(getVaultKey());
+    }
 
-        braintreeClient.getConfiguration(new ConfigurationCallback() {
-            @Override
-            public void onResult(@Nullable final Configuration configuration, @Nullable Exception error) {
-                if (error != null) {
-                    callback.onResult(null, error);
-                    return;
-                }
+    /**
+     * @return the vaulted payment methods fetched by {@link #prefetch(FragmentActivity)} for the
+     * current customer, or null if none were fetched or the payment methods they were built from
+     * are older than the vaulted payment methods TTL
+     */
+    @Nullable
+    List<PaymentMethodNonce> getCachedVaultedPaymentMethods() {
+        List<PaymentMethodNonce> cachedPaymentMethodNonces = sessionCache.getVaultedPaymentMethods();
+        if (cachedPaymentMethodNonces == null) {
+            return null;
+        }
+
+        if (sessionCache.getVaultedPaymentMethodsCache().get(getVaultKey(), vaultedPaymentMethodsTtlMillis) == null) {
+            sessionCache.setVaultedPaymentMethods(null);
+            return null;
+        }
+        return cachedPaymentMethodNonces;
+    }
+
+    private String getVaultKey() {
+        return VaultedPaymentMethodsCache.createKey(braintreeClient.getAuthorization());
+    }
 
-                paymentMethodClient.getPaymentMethodNonces(new GetPaymentMethodNoncesCallback() {
+    void getVaultedPaymentMethods(final FragmentActivity activity, final GetPaymentMethodNoncesCallback callback) {
+        final String vaultKey = getVaultKey();
 
+        // configuration, vaulted payment methods and google pay readiness are fetched concurrently
+        // and joined once all results are available
+        final VaultedPaymentMethodsAggregator aggregator = new VaultedPaymentMethodsAggregator(
+                dropInRequest, new GetPaymentMethodNoncesCallback() {
                     @Override
-                    public void onResult(@Nullable final List<PaymentMethodNonce> paymentMethodNonces, @Nullable Exception error) {
-                        if (error != null) {
-                            callback.onResult(null, error);
-                        } else if (paymentMethodNonces != null) {
-                            if (!dropInRequest.isGooglePayDisabled()) {
-                                googlePayClient.isReadyToPay(activity, new GooglePayIsReadyToPayCallback() {
-                                    @Override
-                                    public void onResult(boolean isReadyToPay, Exception error) {
-                                        AvailablePaymentMethodNonceList availablePaymentMethodNonceList =
-                                                new AvailablePaymentMethodNonceList(configuration, paymentMethodNonces, dropInRequest, isReadyToPay);
-                                        callback.onResult(availablePaymentMethodNonceList.getItems(), null);
-                                    }
-                                });
-                            } else {
-                                AvailablePaymentMethodNonceList availablePaymentMethodNonceList =
-                                        new AvailablePaymentMethodNonceList(configuration, paymentMethodNonces, dropInRequest, false);
-                                callback.onResult(availablePaymentMethodNonceList.getItems(), null);
-                            }
+                    public void onResult(@Nullable List<PaymentMethodNonce> paymentMethodNonceList, @Nullable Exception error) {
+                        if (paymentMethodNonceList != null) {
+                            DropInSessionCache.setLastKnownVaultedPaymentMethods(vaultKey, paymentMethodNonceList);
+                            annotateThreeDSecureEligibility(paymentMethodNonceList);
                         }
+                        callback.onResult(paymentMethodNonceList, error);
                     }
                 });
+
+        getConfiguration(new ConfigurationCallback() {
+            @Override
+            public void onResult(@Nullable Configuration configuration, @Nullable Exception error) {
+                if (configuration != null) {
+                    updateThreeDSecurePolicy(configuration);
+                }
+                aggregator.onConfigurationResult(configuration, error);
+            }
+        });
+
+        fetchPaymentMethodNonces(new GetPaymentMethodNoncesCallback() {
+            @Override
+            public void onResult(@Nullable List<PaymentMethodNonce> paymentMethodNonces, @Nullable Exception error) {
+                aggregator.onPaymentMethodNoncesResult(paymentMethodNonces, error);
+            }
+        });
+
+        if (!dropInRequest.isGooglePayDisabled()) {
+            isReadyToPay(activity, new GooglePayIsReadyToPayCallback() {
+                @Override
+                public void onResult(boolean isReadyToPay, Exception error) {
+                    aggregator.onGooglePayReadinessResult(isReadyToPay);
+                }
+            });
+        } else {
+            aggregator.onGooglePayReadinessResult(false);
+        }
+    }
+
+    private void fetchPaymentMethodNonces(final GetPaymentMethodNoncesCallback callback) {
+        final VaultedPaymentMethodsCache vaultedPaymentMethodsCache =
+                sessionCache.getVaultedPaymentMethodsCache();
+        final String key = getVaultKey();
+
+        List<PaymentMethodNonce> cachedPaymentMethodNonces =
+                vaultedPaymentMethodsCache.get(key, vaultedPaymentMethodsTtlMillis);
+        if (cachedPaymentMethodNonces != null) {
+            callback.onResult(cachedPaymentMethodNonces, null);
+            return;
+        }
+
+        final DropInTraceSpan span = startSpan(DropInTraceSpan.PAYMENT_METHODS_FETCH);
+        paymentMethodClient.get().getPaymentMethodNonces(new GetPaymentMethodNoncesCallback() {
+            @Override
+            public void onResult(@Nullable List<PaymentMethodNonce> paymentMethodNonces, @Nullable Exception error) {
+                endSpan(span, error);
+                if (paymentMethodNonces != null) {
+                    vaultedPaymentMethodsCache.put(key, paymentMethodNonces);
+                }
+                callback.onResult(paymentMethodNonces, error);
             }
         });
     }
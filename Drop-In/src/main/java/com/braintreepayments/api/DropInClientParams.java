@@ -1,33 +1,105 @@
 package com.braintreepayments.api;
 
+/**
+ * Dependencies of a {@link DropInClient}. Payment method clients may be given as {@link Lazy}
+ * values so that they are only instantiated when the flow that uses them is first started.
+ */
 class DropInClientParams {
 
     private DropInRequest dropInRequest;
 
     private BraintreeClient braintreeClient;
-    private GooglePayClient googlePayClient;
-    private PaymentMethodClient paymentMethodClient;
-    private PayPalClient payPalClient;
-    private VenmoClient venmoClient;
-    private CardClient cardClient;
-    private UnionPayClient unionPayClient;
-    private DataCollector dataCollector;
-    private ThreeDSecureClient threeDSecureClient;
-
-    ThreeDSecureClient getThreeDSecureClient() {
+    private Lazy<GooglePayClient> googlePayClient;
+    private Lazy<PaymentMethodClient> paymentMethodClient;
+    private Lazy<PayPalClient> payPalClient;
+    private Lazy<VenmoClient> venmoClient;
+    private Lazy<CardClient> cardClient;
+    private Lazy<UnionPayClient> unionPayClient;
+    private Lazy<DataCollector> dataCollector;
+    private Lazy<ThreeDSecureClient> threeDSecureClient;
+    private DropInSessionCache sessionCache;
+    private DropInTraceListener traceListener;
+    private AnalyticsEventBuffer analyticsEventBuffer;
+    private long googlePayReadinessTtlMillis = GooglePayReadinessOracle.DEFAULT_TTL_MILLIS;
+    private long vaultedPaymentMethodsTtlMillis = VaultedPaymentMethodsCache.DEFAULT_TTL_MILLIS;
+    private long deviceDataTtlMillis = DeviceDataFuture.DEFAULT_TTL_MILLIS;
+
+    long getGooglePayReadinessTtlMillis() {
+        return googlePayReadinessTtlMillis;
+    }
+
+    DropInClientParams googlePayReadinessTtlMillis(long googlePayReadinessTtlMillis) {
+        this.googlePayReadinessTtlMillis = googlePayReadinessTtlMillis;
+        return this;
+    }
+
+    long getVaultedPaymentMethodsTtlMillis() {
+        return vaultedPaymentMethodsTtlMillis;
+    }
+
+    DropInClientParams vaultedPaymentMethodsTtlMillis(long vaultedPaymentMethodsTtlMillis) {
+        this.vaultedPaymentMethodsTtlMillis = vaultedPaymentMethodsTtlMillis;
+        return this;
+    }
+
+    long getDeviceDataTtlMillis() {
+        return deviceDataTtlMillis;
+    }
+
+    DropInClientParams deviceDataTtlMillis(long deviceDataTtlMillis) {
+        this.deviceDataTtlMillis = deviceDataTtlMillis;
+        return this;
+    }
+
+    AnalyticsEventBuffer getAnalyticsEventBuffer() {
+        return analyticsEventBuffer;
+    }
+
+    DropInClientParams analyticsEventBuffer(AnalyticsEventBuffer analyticsEventBuffer) {
+        this.analyticsEventBuffer = analyticsEventBuffer;
+        return this;
+    }
+
+    DropInTraceListener getTraceListener() {
+        return traceListener;
+    }
+
+    DropInClientParams traceListener(DropInTraceListener traceListener) {
+        this.traceListener = traceListener;
+        return this;
+    }
+
+    DropInSessionCache getSessionCache() {
+        return sessionCache;
+    }
+
+    DropInClientParams sessionCache(DropInSessionCache sessionCache) {
+        this.sessionCache = sessionCache;
+        return this;
+    }
+
+    Lazy<ThreeDSecureClient> getThreeDSecureClient() {
         return threeDSecureClient;
     }
 
     DropInClientParams threeDSecureClient(ThreeDSecureClient threeDSecureClient) {
+        return threeDSecureClient(Lazy.of(threeDSecureClient));
+    }
+
+    DropInClientParams threeDSecureClient(Lazy<ThreeDSecureClient> threeDSecureClient) {
         this.threeDSecureClient = threeDSecureClient;
         return this;
     }
 
-    DataCollector getDataCollector() {
+    Lazy<DataCollector> getDataCollector() {
         return dataCollector;
     }
 
     DropInClientParams dataCollector(DataCollector dataCollector) {
+        return dataCollector(Lazy.of(dataCollector));
+    }
+
+    DropInClientParams dataCollector(Lazy<DataCollector> dataCollector) {
         this.dataCollector = dataCollector;
         return this;
     }
@@ -50,56 +122,80 @@ class DropInClientParams {
         return this;
     }
 
-    GooglePayClient getGooglePayClient() {
+    Lazy<GooglePayClient> getGooglePayClient() {
         return googlePayClient;
     }
 
     DropInClientParams googlePayClient(GooglePayClient googlePayClient) {
+        return googlePayClient(Lazy.of(googlePayClient));
+    }
+
+    DropInClientParams googlePayClient(Lazy<GooglePayClient> googlePayClient) {
         this.googlePayClient = googlePayClient;
         return this;
     }
 
-    PaymentMethodClient getPaymentMethodClient() {
+    Lazy<PaymentMethodClient> getPaymentMethodClient() {
         return paymentMethodClient;
     }
 
     DropInClientParams paymentMethodClient(PaymentMethodClient paymentMethodClient) {
+        return paymentMethodClient(Lazy.of(paymentMethodClient));
+    }
+
+    DropInClientParams paymentMethodClient(Lazy<PaymentMethodClient> paymentMethodClient) {
         this.paymentMethodClient = paymentMethodClient;
         return this;
     }
 
-    PayPalClient getPayPalClient() {
+    Lazy<PayPalClient> getPayPalClient() {
         return payPalClient;
     }
 
     DropInClientParams payPalClient(PayPalClient payPalClient) {
+        return payPalClient(Lazy.of(payPalClient));
+    }
+
+    DropInClientParams payPalClient(Lazy<PayPalClient> payPalClient) {
         this.payPalClient = payPalClient;
         return this;
     }
 
-    VenmoClient getVenmoClient() {
+    Lazy<VenmoClient> getVenmoClient() {
         return venmoClient;
     }
 
     DropInClientParams venmoClient(VenmoClient venmoClient) {
+        return venmoClient(Lazy.of(venmoClient));
+    }
+
+    DropInClientParams venmoClient(Lazy<VenmoClient> venmoClient) {
         this.venmoClient = venmoClient;
         return this;
     }
 
-    CardClient getCardClient() {
+    Lazy<CardClient> getCardClient() {
         return cardClient;
     }
 
     DropInClientParams cardClient(CardClient cardClient) {
+        return cardClient(Lazy.of(cardClient));
+    }
+
+    DropInClientParams cardClient(Lazy<CardClient> cardClient) {
         this.cardClient = cardClient;
         return this;
     }
 
-    UnionPayClient getUnionPayClient() {
+    Lazy<UnionPayClient> getUnionPayClient() {
         return unionPayClient;
     }
 
     DropInClientParams unionPayClient(UnionPayClient unionPayClient) {
+        return unionPayClient(Lazy.of(unionPayClient));
+    }
+
+    DropInClientParams unionPayClient(Lazy<UnionPayClient> unionPayClient) {
         this.unionPayClient = unionPayClient;
         return this;
     }
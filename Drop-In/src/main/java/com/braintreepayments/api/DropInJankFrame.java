@@ -0,0 +1,63 @@
+package com.braintreepayments.api;
+
+import androidx.annotation.Nullable;
+
+/**
+ * A janky frame drawn while Drop-in was shown, tagged with the bottom sheet transition that was
+ * running when the frame was drawn.
+ */
+public final class DropInJankFrame {
+
+    /**
+     * The bottom sheet is sliding up.
+     */
+    public static final String SLIDE_UP = "slide-up";
+
+    /**
+     * The bottom sheet is sliding down.
+     */
+    public static final String SLIDE_DOWN = "slide-down";
+
+    /**
+     * The vault manager is sliding in.
+     */
+    public static final String VAULT_MANAGER_ENTER = "vault-manager-enter";
+
+    /**
+     * The vault manager is sliding out.
+     */
+    public static final String VAULT_MANAGER_EXIT = "vault-manager-exit";
+
+    private final String transition;
+    private final long frameStartNanos;
+    private final long frameDurationNanos;
+
+    DropInJankFrame(@Nullable String transition, long frameStartNanos, long frameDurationNanos) {
+        this.transition = transition;
+        this.frameStartNanos = frameStartNanos;
+        this.frameDurationNanos = frameDurationNanos;
+    }
+
+    /**
+     * @return one of {@link #SLIDE_UP}, {@link #SLIDE_DOWN}, {@link #VAULT_MANAGER_ENTER} or
+     * {@link #VAULT_MANAGER_EXIT}, or null if no transition was running
+     */
+    @Nullable
+    public String getTransition() {
+        return transition;
+    }
+
+    /**
+     * @return the start time of the frame, in the {@link System#nanoTime()} time base
+     */
+    public long getFrameStartNanos() {
+        return frameStartNanos;
+    }
+
+    /**
+     * @return the time the frame took to draw
+     */
+    public long getFrameDurationNanos() {
+        return frameDurationNanos;
+    }
+}
@@ -0,0 +1,19 @@
+package com.braintreepayments.api;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Receives the janky frames drawn by Drop-in's bottom sheet. A frame is janky when it takes more
+ * than twice the display's refresh interval to draw. Register a listener with
+ * {@link DropInClient#setJankListener(DropInJankListener)}; frames are only tracked on API 26 and
+ * above.
+ * <p>
+ * Methods are called on the main thread and should return quickly.
+ */
+public interface DropInJankListener {
+
+    /**
+     * @param frame a frame that took longer than expected to draw
+     */
+    void onJankyFrame(@NonNull DropInJankFrame frame);
+}
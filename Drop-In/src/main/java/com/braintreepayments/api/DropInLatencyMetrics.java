@@ -0,0 +1,70 @@
+package com.braintreepayments.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Process-wide latency histograms, one for each type of {@link DropInTraceSpan}. Histograms
+ * outlive individual Drop-in sessions so that the host application can report them periodically.
+ */
+class DropInLatencyMetrics {
+
+    private static final Map<String, LatencyHistogram> HISTOGRAMS;
+
+    static {
+        String[] operations = {
+                DropInTraceSpan.CONFIGURATION_FETCH,
+                DropInTraceSpan.PAYMENT_METHODS_FETCH,
+                DropInTraceSpan.GOOGLE_PAY_IS_READY_TO_PAY,
+                DropInTraceSpan.CARD_TOKENIZATION,
+                DropInTraceSpan.THREE_D_SECURE_LOOKUP,
+                DropInTraceSpan.THREE_D_SECURE_CONTINUE,
+                DropInTraceSpan.DEVICE_DATA_COLLECTION,
+                DropInTraceSpan.BROWSER_SWITCH_RESULT,
+                DropInTraceSpan.ACTIVITY_RESULT,
+                DropInTraceSpan.BOTTOM_SHEET_FIRST_RENDER,
+                DropInTraceSpan.LAUNCH_TO_FIRST_FRAME,
+                DropInTraceSpan.LAUNCH_TO_BOTTOM_SHEET_SHOWN,
+                DropInTraceSpan.LAUNCH_TO_PAYMENT_METHODS_SHOWN
+        };
+
+        Map<String, LatencyHistogram> histograms = new HashMap<>();
+        for (String operation : operations) {
+            histograms.put(operation, new LatencyHistogram());
+        }
+        HISTOGRAMS = Collections.unmodifiableMap(histograms);
+    }
+
+    private DropInLatencyMetrics() {
+    }
+
+    static void record(String operation, long durationNanos) {
+        LatencyHistogram histogram = HISTOGRAMS.get(operation);
+        if (histogram != null) {
+            histogram.record(durationNanos);
+        }
+    }
+
+    /**
+     * @return a snapshot of each operation that has completed at least once
+     */
+    static List<DropInLatencySnapshot> snapshot() {
+        List<DropInLatencySnapshot> snapshots = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram> entry : HISTOGRAMS.entrySet()) {
+            DropInLatencySnapshot snapshot = entry.getValue().snapshot(entry.getKey());
+            if (snapshot.getCount() > 0) {
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    static void reset() {
+        for (LatencyHistogram histogram : HISTOGRAMS.values()) {
+            histogram.reset();
+        }
+    }
+}
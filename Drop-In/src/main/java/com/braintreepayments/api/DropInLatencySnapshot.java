@@ -0,0 +1,70 @@
+package com.braintreepayments.api;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Latency statistics for one type of operation performed by Drop-in, e.g.
+ * {@link DropInTraceSpan#CONFIGURATION_FETCH}. Percentiles are estimated from fixed histogram
+ * buckets and are accurate to within the width of the bucket they fall in.
+ */
+public final class DropInLatencySnapshot {
+
+    private final String operation;
+    private final long count;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    DropInLatencySnapshot(String operation, long count, double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+        this.operation = operation;
+        this.count = count;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    /**
+     * @return the name of the operation; one of the span names defined in {@link DropInTraceSpan}
+     */
+    @NonNull
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the number of times the operation completed
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the median latency in milliseconds
+     */
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    /**
+     * @return the 95th percentile latency in milliseconds
+     */
+    public double getP95Millis() {
+        return p95Millis;
+    }
+
+    /**
+     * @return the 99th percentile latency in milliseconds
+     */
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    /**
+     * @return the highest latency recorded in milliseconds
+     */
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+}
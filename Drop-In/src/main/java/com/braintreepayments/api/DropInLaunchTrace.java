@@ -0,0 +1,81 @@
+package com.braintreepayments.api;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spans that start when the host application launches Drop-in and end in {@link DropInActivity}
+ * as the customer first sees it. The spans are handed from the launching {@link DropInClient} to
+ * the activity through the session's {@link DropInSessionCache}.
+ */
+class DropInLaunchTrace {
+
+    private static final String[] SPAN_NAMES = {
+            DropInTraceSpan.LAUNCH_TO_FIRST_FRAME,
+            DropInTraceSpan.LAUNCH_TO_BOTTOM_SHEET_SHOWN,
+            DropInTraceSpan.LAUNCH_TO_PAYMENT_METHODS_SHOWN
+    };
+
+    private final DropInTracer tracer;
+    private final Map<String, DropInTraceSpan> pendingSpans = new HashMap<>();
+
+    DropInLaunchTrace(DropInTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    void start(@Nullable String sessionId) {
+        // a launch that never reached the customer is not measured
+        cancel(new BraintreeException("Drop-in was launched again before it was shown"));
+
+        List<DropInTraceSpan> spans = new ArrayList<>();
+        for (String name : SPAN_NAMES) {
+            spans.add(tracer.startSpan(sessionId, name));
+        }
+
+        synchronized (pendingSpans) {
+            for (DropInTraceSpan span : spans) {
+                pendingSpans.put(span.getName(), span);
+            }
+        }
+    }
+
+    /**
+     * End the pending span with the given name; does nothing if the span has already ended or
+     * Drop-in was not launched by {@link DropInClient#launchDropInForResult(androidx.fragment.app.FragmentActivity, int)}.
+     */
+    void end(String name) {
+        DropInTraceSpan span;
+        synchronized (pendingSpans) {
+            span = pendingSpans.remove(name);
+        }
+        tracer.endSpan(span, null);
+    }
+
+    /**
+     * End all pending spans with an error, e.g. when Drop-in finishes before they are reached.
+     * Spans that end with an error are not added to the {@link DropInLatencyMetrics}.
+     */
+    void cancel(Exception error) {
+        List<DropInTraceSpan> spans;
+        synchronized (pendingSpans) {
+            spans = new ArrayList<>(pendingSpans.values());
+            pendingSpans.clear();
+        }
+
+        for (DropInTraceSpan span : spans) {
+            tracer.endSpan(span, error);
+        }
+    }
+
+    @VisibleForTesting
+    boolean isPending(String name) {
+        synchronized (pendingSpans) {
+            return pendingSpans.containsKey(name);
+        }
+    }
+}
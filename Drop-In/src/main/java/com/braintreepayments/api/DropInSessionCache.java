@@ -0,0 +1,281 @@
+package com.braintreepayments.api;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process store for Drop-in launch dependencies.
+ * <p>
+ * Each {@link DropInClient} owned by the host application holds its own cache for as long as the
+ * client is alive. The cache is registered under the client's Drop-in session ID by
+ * {@link DropInClient#launchDropInForResult(androidx.fragment.app.FragmentActivity, int)}, so that
+ * the {@link DropInClient} instantiated by {@link DropInActivity} for the same session can read
+ * it, and released when the activity finishes. The registry therefore only refers to caches of
+ * Drop-in sessions that are currently shown.
+ */
+class DropInSessionCache {
+
+    private static final Map<String, DropInSessionCache> SESSIONS = new HashMap<>();
+
+    static final int MAX_LAST_KNOWN_VAULTS = 4;
+
+    // outlives individual sessions so that a returning customer's vault can be drawn immediately;
+    // keeps the customers seen most recently
+    private static final Map<String, List<PaymentMethodNonce>> LAST_KNOWN_VAULTED_PAYMENT_METHODS =
+            new LinkedHashMap<String, List<PaymentMethodNonce>>(MAX_LAST_KNOWN_VAULTS + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, List<PaymentMethodNonce>> eldest) {
+                    return size() > MAX_LAST_KNOWN_VAULTS;
+                }
+            };
+
+    private final String sessionId;
+
+    // guarded by SESSIONS; the number of launches that have not released the cache yet
+    private int registrations;
+
+    private List<DropInPaymentMethodType> supportedPaymentMethods;
+    private List<PaymentMethodNonce> vaultedPaymentMethods;
+    private List<String> supportedCardTypes;
+    private ThreeDSecurePolicy threeDSecurePolicy;
+    private Map<String, Boolean> threeDSecureEligibility;
+    // held weakly for the same reason as the trace listener; see DropInTracer
+    private WeakReference<DropInJankListener> jankListener = new WeakReference<>(null);
+
+    private final List<GetSupportedPaymentMethodsCallback> pendingSupportedPaymentMethodsCallbacks =
+            new ArrayList<>();
+
+    private final GooglePayReadinessOracle googlePayReadinessOracle = new GooglePayReadinessOracle();
+    private final VaultedPaymentMethodsCache vaultedPaymentMethodsCache = new VaultedPaymentMethodsCache();
+    private final DeviceDataFuture deviceDataFuture = new DeviceDataFuture();
+    private final DropInTracer tracer = new DropInTracer();
+    private final DropInLaunchTrace launchTrace = new DropInLaunchTrace(tracer);
+
+    DropInSessionCache() {
+        this(null);
+    }
+
+    /**
+     * @param sessionId the Drop-in session ID of the client that owns this cache
+     */
+    DropInSessionCache(@Nullable String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Called by {@link DropInActivity} to find the cache of the client that launched it.
+     *
+     * @param sessionId the Drop-in session ID
+     * @return the cache registered for the given session; when there is none, e.g. because the
+     * process was restarted while Drop-in was shown, a new cache is registered. A new, unregistered
+     * cache is returned when the session ID is null.
+     */
+    static DropInSessionCache forSession(@Nullable String sessionId) {
+        if (sessionId == null) {
+            return new DropInSessionCache();
+        }
+
+        synchronized (SESSIONS) {
+            DropInSessionCache sessionCache = SESSIONS.get(sessionId);
+            if (sessionCache == null) {
+                sessionCache = new DropInSessionCache(sessionId);
+                sessionCache.registrations = 1;
+                SESSIONS.put(sessionId, sessionCache);
+            }
+            return sessionCache;
+        }
+    }
+
+    /**
+     * Make a client's cache available to the Drop-in activity it launches. Each registration is
+     * balanced by a call to {@link #release(String)}.
+     *
+     * @param sessionId the Drop-in session ID
+     * @param sessionCache the cache of the launching client
+     */
+    static void register(@Nullable String sessionId, DropInSessionCache sessionCache) {
+        if (sessionId == null) {
+            return;
+        }
+
+        synchronized (SESSIONS) {
+            if (SESSIONS.get(sessionId) != sessionCache) {
+                sessionCache.registrations = 0;
+                SESSIONS.put(sessionId, sessionCache);
+            }
+            sessionCache.registrations++;
+        }
+    }
+
+    /**
+     * Called when a Drop-in activity finishes. The cache stays with the client that owns it, so
+     * results that expire on their own, e.g. vaulted payment methods and Google Pay readiness, are
+     * still available the next time the client launches Drop-in.
+     *
+     * @param sessionId the Drop-in session ID
+     */
+    static void release(@Nullable String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+
+        synchronized (SESSIONS) {
+            DropInSessionCache sessionCache = SESSIONS.get(sessionId);
+            if (sessionCache != null && --sessionCache.registrations <= 0) {
+                SESSIONS.remove(sessionId);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    static boolean isRegistered(String sessionId) {
+        synchronized (SESSIONS) {
+            return SESSIONS.containsKey(sessionId);
+        }
+    }
+
+    @VisibleForTesting
+    static void clearAll() {
+        synchronized (SESSIONS) {
+            SESSIONS.clear();
+        }
+        synchronized (LAST_KNOWN_VAULTED_PAYMENT_METHODS) {
+            LAST_KNOWN_VAULTED_PAYMENT_METHODS.clear();
+        }
+    }
+
+    /**
+     * @param vaultKey identifies the customer; see {@link VaultedPaymentMethodsCache#createKey(Authorization)}
+     * @return the vaulted payment methods most recently shown to the customer in any session, or
+     * null if there are none
+     */
+    @Nullable
+    static List<PaymentMethodNonce> getLastKnownVaultedPaymentMethods(String vaultKey) {
+        synchronized (LAST_KNOWN_VAULTED_PAYMENT_METHODS) {
+            return LAST_KNOWN_VAULTED_PAYMENT_METHODS.get(vaultKey);
+        }
+    }
+
+    static void setLastKnownVaultedPaymentMethods(String vaultKey, @Nullable List<PaymentMethodNonce> vaultedPaymentMethods) {
+        synchronized (LAST_KNOWN_VAULTED_PAYMENT_METHODS) {
+            if (vaultedPaymentMethods != null) {
+                LAST_KNOWN_VAULTED_PAYMENT_METHODS.put(vaultKey, vaultedPaymentMethods);
+            } else {
+                LAST_KNOWN_VAULTED_PAYMENT_METHODS.remove(vaultKey);
+            }
+        }
+    }
+
+    /**
+     * @return the Drop-in session ID, or null if this cache is not registered for a session
+     */
+    @Nullable
+    String getSessionId() {
+        return sessionId;
+    }
+
+    GooglePayReadinessOracle getGooglePayReadinessOracle() {
+        return googlePayReadinessOracle;
+    }
+
+    VaultedPaymentMethodsCache getVaultedPaymentMethodsCache() {
+        return vaultedPaymentMethodsCache;
+    }
+
+    DeviceDataFuture getDeviceDataFuture() {
+        return deviceDataFuture;
+    }
+
+    DropInTracer getTracer() {
+        return tracer;
+    }
+
+    DropInLaunchTrace getLaunchTrace() {
+        return launchTrace;
+    }
+
+    @Nullable
+    synchronized DropInJankListener getJankListener() {
+        return jankListener.get();
+    }
+
+    synchronized void setJankListener(@Nullable DropInJankListener jankListener) {
+        this.jankListener = new WeakReference<>(jankListener);
+    }
+
+    @Nullable
+    synchronized List<DropInPaymentMethodType> getSupportedPaymentMethods() {
+        return supportedPaymentMethods;
+    }
+
+    synchronized void setSupportedPaymentMethods(@Nullable List<DropInPaymentMethodType> supportedPaymentMethods) {
+        this.supportedPaymentMethods = supportedPaymentMethods;
+    }
+
+    /**
+     * @return true if no supported payment methods fetch is in flight for the session, in which
+     * case the caller starts one and notifies the callback with its result
+     */
+    synchronized boolean addPendingSupportedPaymentMethodsCallback(GetSupportedPaymentMethodsCallback callback) {
+        pendingSupportedPaymentMethodsCallbacks.add(callback);
+        return pendingSupportedPaymentMethodsCallbacks.size() == 1;
+    }
+
+    /**
+     * @return the callbacks waiting for the supported payment methods fetch that has completed
+     */
+    synchronized List<GetSupportedPaymentMethodsCallback> takePendingSupportedPaymentMethodsCallbacks() {
+        List<GetSupportedPaymentMethodsCallback> callbacks =
+                new ArrayList<>(pendingSupportedPaymentMethodsCallbacks);
+        pendingSupportedPaymentMethodsCallbacks.clear();
+        return callbacks;
+    }
+
+    @Nullable
+    synchronized List<PaymentMethodNonce> getVaultedPaymentMethods() {
+        return vaultedPaymentMethods;
+    }
+
+    synchronized void setVaultedPaymentMethods(@Nullable List<PaymentMethodNonce> vaultedPaymentMethods) {
+        this.vaultedPaymentMethods = vaultedPaymentMethods;
+    }
+
+    @Nullable
+    synchronized ThreeDSecurePolicy getThreeDSecurePolicy() {
+        return threeDSecurePolicy;
+    }
+
+    synchronized void setThreeDSecurePolicy(@Nullable ThreeDSecurePolicy threeDSecurePolicy) {
+        this.threeDSecurePolicy = threeDSecurePolicy;
+    }
+
+    /**
+     * @return the 3DS decision for the given vaulted payment method, or null if it has not been
+     * computed for the current list of vaulted payment methods
+     */
+    @Nullable
+    synchronized Boolean getThreeDSecureEligibility(PaymentMethodNonce paymentMethodNonce) {
+        return (threeDSecureEligibility != null)
+                ? threeDSecureEligibility.get(paymentMethodNonce.getString()) : null;
+    }
+
+    synchronized void setThreeDSecureEligibility(@Nullable Map<String, Boolean> threeDSecureEligibility) {
+        this.threeDSecureEligibility = threeDSecureEligibility;
+    }
+
+    @Nullable
+    synchronized List<String> getSupportedCardTypes() {
+        return supportedCardTypes;
+    }
+
+    synchronized void setSupportedCardTypes(@Nullable List<String> supportedCardTypes) {
+        this.supportedCardTypes = supportedCardTypes;
+    }
+}
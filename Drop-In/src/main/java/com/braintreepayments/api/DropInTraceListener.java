@@ -0,0 +1,26 @@
+package com.braintreepayments.api;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Receives a {@link DropInTraceSpan} for each operation performed by Drop-in, e.g. fetching
+ * configuration or tokenizing a card. Register a listener with
+ * {@link DropInClient#setTraceListener(DropInTraceListener)} before calling
+ * {@link DropInClient#launchDropInForResult(androidx.fragment.app.FragmentActivity, int)} to
+ * receive spans for the whole Drop-in session.
+ * <p>
+ * Methods are called on the thread that started or completed the operation, which is usually the
+ * main thread, and should return quickly.
+ */
+public interface DropInTraceListener {
+
+    /**
+     * @param span a span that has just started; {@link DropInTraceSpan#getEndTimeNanos()} is not set yet
+     */
+    void onSpanStarted(@NonNull DropInTraceSpan span);
+
+    /**
+     * @param span a span that has just ended
+     */
+    void onSpanEnded(@NonNull DropInTraceSpan span);
+}
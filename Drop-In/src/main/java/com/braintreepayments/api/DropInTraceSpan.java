@@ -0,0 +1,151 @@
+package com.braintreepayments.api;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A timed operation performed by Drop-in. Every span belongs to the Drop-in session that
+ * performed it, so the spans of a checkout can be grouped by {@link #getSessionId()}.
+ * <p>
+ * Timestamps are taken from {@link SystemClock#elapsedRealtimeNanos()}, which is monotonic and
+ * keeps counting while the device is asleep.
+ */
+public final class DropInTraceSpan {
+
+    /**
+     * Fetching the Braintree configuration.
+     */
+    public static final String CONFIGURATION_FETCH = "configuration-fetch";
+
+    /**
+     * Fetching the customer's vaulted payment methods.
+     */
+    public static final String PAYMENT_METHODS_FETCH = "payment-methods-fetch";
+
+    /**
+     * Checking whether Google Pay is ready to pay.
+     */
+    public static final String GOOGLE_PAY_IS_READY_TO_PAY = "google-pay-is-ready-to-pay";
+
+    /**
+     * Tokenizing a card entered by the customer.
+     */
+    public static final String CARD_TOKENIZATION = "card-tokenization";
+
+    /**
+     * Performing the 3D Secure lookup for a card.
+     */
+    public static final String THREE_D_SECURE_LOOKUP = "three-d-secure-lookup";
+
+    /**
+     * Continuing 3D Secure verification after the lookup, including a challenge if one is required.
+     */
+    public static final String THREE_D_SECURE_CONTINUE = "three-d-secure-continue";
+
+    /**
+     * Waiting for device data to be collected.
+     */
+    public static final String DEVICE_DATA_COLLECTION = "device-data-collection";
+
+    /**
+     * Handling the result of a browser switch, e.g. returning from PayPal.
+     */
+    public static final String BROWSER_SWITCH_RESULT = "browser-switch-result";
+
+    /**
+     * Handling the result of an activity started by Drop-in, e.g. Google Pay or Venmo.
+     */
+    public static final String ACTIVITY_RESULT = "activity-result";
+
+    /**
+     * From the creation of the Drop-in activity until the bottom sheet is first drawn.
+     */
+    public static final String BOTTOM_SHEET_FIRST_RENDER = "bottom-sheet-first-render";
+
+    /**
+     * From {@link DropInClient#launchDropInForResult(androidx.fragment.app.FragmentActivity, int)}
+     * until the first frame of the Drop-in activity is drawn.
+     */
+    public static final String LAUNCH_TO_FIRST_FRAME = "launch-to-first-frame";
+
+    /**
+     * From {@link DropInClient#launchDropInForResult(androidx.fragment.app.FragmentActivity, int)}
+     * until the bottom sheet has finished sliding up.
+     */
+    public static final String LAUNCH_TO_BOTTOM_SHEET_SHOWN = "launch-to-bottom-sheet-shown";
+
+    /**
+     * From {@link DropInClient#launchDropInForResult(androidx.fragment.app.FragmentActivity, int)}
+     * until the supported payment methods, and the vaulted payment methods when a client token is
+     * used, are first drawn.
+     */
+    public static final String LAUNCH_TO_PAYMENT_METHODS_SHOWN = "launch-to-payment-methods-shown";
+
+    private final String sessionId;
+    private final long spanId;
+    private final String name;
+    private final long startTimeNanos;
+
+    private long endTimeNanos = -1;
+    private Exception error;
+
+    DropInTraceSpan(@Nullable String sessionId, long spanId, String name, long startTimeNanos) {
+        this.sessionId = sessionId;
+        this.spanId = spanId;
+        this.name = name;
+        this.startTimeNanos = startTimeNanos;
+    }
+
+    void end(long endTimeNanos, @Nullable Exception error) {
+        this.endTimeNanos = endTimeNanos;
+        this.error = error;
+    }
+
+    /**
+     * @return the ID of the Drop-in session this span belongs to
+     */
+    @Nullable
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * @return an ID that is unique among the spans of the current process
+     */
+    public long getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * @return the name of the operation, e.g. {@link #CONFIGURATION_FETCH}
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the time the operation started, in {@link SystemClock#elapsedRealtimeNanos()}
+     */
+    public long getStartTimeNanos() {
+        return startTimeNanos;
+    }
+
+    /**
+     * @return the time the operation ended, in {@link SystemClock#elapsedRealtimeNanos()}, or -1
+     * if it has not ended
+     */
+    public long getEndTimeNanos() {
+        return endTimeNanos;
+    }
+
+    /**
+     * @return the error the operation failed with, if any
+     */
+    @Nullable
+    public Exception getError() {
+        return error;
+    }
+}
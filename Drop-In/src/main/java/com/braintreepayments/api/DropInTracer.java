@@ -0,0 +1,63 @@
+package com.braintreepayments.api;
+
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+import androidx.tracing.Trace;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates {@link DropInTraceSpan}s and reports them to the session's {@link DropInTraceListener}.
+ * Each span is also recorded as an async trace section, so that asynchronous operations such as
+ * network requests show up in Perfetto and systrace captures of the host application, and its
+ * duration is added to the {@link DropInLatencyMetrics}.
+ */
+class DropInTracer {
+
+    private static final String ASYNC_SECTION_PREFIX = "DropIn:";
+
+    private static final AtomicLong NEXT_SPAN_ID = new AtomicLong(1);
+
+    // held weakly, since the tracer is reachable from the session registry while Drop-in is
+    // shown; the DropInClient the listener was set on holds it strongly
+    private volatile WeakReference<DropInTraceListener> listener = new WeakReference<>(null);
+
+    void setListener(@Nullable DropInTraceListener listener) {
+        this.listener = new WeakReference<>(listener);
+    }
+
+    DropInTraceSpan startSpan(@Nullable String sessionId, String name) {
+        DropInTraceListener listener = this.listener.get();
+        DropInTraceSpan span = new DropInTraceSpan(
+                sessionId, NEXT_SPAN_ID.getAndIncrement(), name, SystemClock.elapsedRealtimeNanos());
+        Trace.beginAsyncSection(ASYNC_SECTION_PREFIX + name, getCookie(span));
+        if (listener != null) {
+            listener.onSpanStarted(span);
+        }
+        return span;
+    }
+
+    void endSpan(@Nullable DropInTraceSpan span, @Nullable Exception error) {
+        if (span == null) {
+            return;
+        }
+
+        span.end(SystemClock.elapsedRealtimeNanos(), error);
+        Trace.endAsyncSection(ASYNC_SECTION_PREFIX + span.getName(), getCookie(span));
+        if (error == null) {
+            DropInLatencyMetrics.record(span.getName(), span.getEndTimeNanos() - span.getStartTimeNanos());
+        }
+
+        DropInTraceListener listener = this.listener.get();
+        if (listener != null) {
+            listener.onSpanEnded(span);
+        }
+    }
+
+    private static int getCookie(DropInTraceSpan span) {
+        // async sections with the same name are matched by cookie
+        return (int) span.getSpanId();
+    }
+}
@@ -21,6 +21,8 @@ public class DropInViewModel extends ViewModel {
     private final MutableLiveData<Exception> cardTokenizationError = new MutableLiveData<>();
     private final MutableLiveData<Exception> userCanceledError = new MutableLiveData<>();
 
+    private boolean vaultedPaymentMethodsStale;
+
     LiveData<BottomSheetState> getBottomSheetState() {
         return bottomSheetState;
     }
@@ -30,9 +32,23 @@ public class DropInViewModel extends ViewModel {
     }
 
     void setVaultedPaymentMethods(List<PaymentMethodNonce> value) {
+        vaultedPaymentMethodsStale = false;
+        vaultedPaymentMethods.setValue(value);
+    }
+
+    /**
+     * Show vaulted payment methods from a previous Drop-in session until
+     * {@link #setVaultedPaymentMethods(List)} is called with an up to date list.
+     */
+    void setLastKnownVaultedPaymentMethods(List<PaymentMethodNonce> value) {
+        vaultedPaymentMethodsStale = true;
         vaultedPaymentMethods.setValue(value);
     }
 
+    boolean areVaultedPaymentMethodsStale() {
+        return vaultedPaymentMethodsStale;
+    }
+
     LiveData<List<PaymentMethodNonce>> getVaultedPaymentMethods() {
         return vaultedPaymentMethods;
     }
@@ -0,0 +1,140 @@
+package com.braintreepayments.api;
+
+import android.os.Parcel;
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+import androidx.fragment.app.FragmentActivity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Session-scoped answer to {@link GooglePayClient#isReadyToPay(FragmentActivity, GooglePayIsReadyToPayCallback)}.
+ * <p>
+ * Concurrent callers share a single in-flight call. A successful answer is reused until it is
+ * older than the caller's TTL, or until the authorization or {@link GooglePayRequest} used to
+ * obtain it changes.
+ * <p>
+ * {@link GooglePayClient} callbacks are not guaranteed to arrive on the main thread, so state is
+ * guarded by this object's lock. Callbacks are notified without holding it.
+ */
+class GooglePayReadinessOracle {
+
+    static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final Map<String, List<GooglePayIsReadyToPayCallback>> pendingCallbacks = new HashMap<>();
+
+    private String cachedKey;
+    private boolean cachedIsReadyToPay;
+    private long cachedAtMillis;
+
+    /**
+     * @param key identifies the authorization and Google Pay request the answer is valid for; see
+     * {@link #createKey(Authorization, GooglePayRequest)}
+     * @param ttlMillis maximum age of a cached answer
+     */
+    void isReadyToPay(FragmentActivity activity, GooglePayClient googlePayClient, final String key, long ttlMillis, GooglePayIsReadyToPayCallback callback) {
+        Boolean cachedAnswer = getCachedAnswer(key, ttlMillis);
+        if (cachedAnswer != null) {
+            callback.onResult(cachedAnswer, null);
+            return;
+        }
+
+        synchronized (this) {
+            List<GooglePayIsReadyToPayCallback> callbacks = pendingCallbacks.get(key);
+            if (callbacks != null) {
+                callbacks.add(callback);
+                return;
+            }
+
+            callbacks = new ArrayList<>();
+            callbacks.add(callback);
+            pendingCallbacks.put(key, callbacks);
+        }
+
+        googlePayClient.isReadyToPay(activity, new GooglePayIsReadyToPayCallback() {
+            @Override
+            public void onResult(boolean isReadyToPay, Exception error) {
+                onIsReadyToPayResult(key, isReadyToPay, error);
+            }
+        });
+    }
+
+    /**
+     * @return true if an answer for the key is cached and no older than the TTL
+     */
+    synchronized boolean hasAnswer(String key, long ttlMillis) {
+        return key.equals(cachedKey) && SystemClock.elapsedRealtime() - cachedAtMillis < ttlMillis;
+    }
+
+    @Nullable
+    private synchronized Boolean getCachedAnswer(String key, long ttlMillis) {
+        if (!key.equals(cachedKey)) {
+            invalidate();
+            return null;
+        }
+        if (SystemClock.elapsedRealtime() - cachedAtMillis < ttlMillis) {
+            return cachedIsReadyToPay;
+        }
+        return null;
+    }
+
+    private void onIsReadyToPayResult(String key, boolean isReadyToPay, @Nullable Exception error) {
+        List<GooglePayIsReadyToPayCallback> callbacks;
+        synchronized (this) {
+            if (error == null) {
+                cachedKey = key;
+                cachedIsReadyToPay = isReadyToPay;
+                cachedAtMillis = SystemClock.elapsedRealtime();
+            }
+            callbacks = pendingCallbacks.remove(key);
+        }
+
+        if (callbacks == null) {
+            return;
+        }
+
+        for (GooglePayIsReadyToPayCallback callback : callbacks) {
+            callback.onResult(isReadyToPay, error);
+        }
+    }
+
+    /**
+     * Discard the cached answer. An in-flight call is not cancelled.
+     */
+    synchronized void invalidate() {
+        cachedKey = null;
+        cachedIsReadyToPay = false;
+        cachedAtMillis = 0;
+    }
+
+    /**
+     * @return a key that identifies the authorization and Google Pay request without containing
+     * the authorization
+     */
+    static String createKey(@Nullable Authorization authorization, @Nullable GooglePayRequest googlePayRequest) {
+        String authorizationKey = (authorization != null) ? authorization.toString() : "";
+        return VaultedPaymentMethodsCache.sha256(authorizationKey + ":" + fingerprint(googlePayRequest));
+    }
+
+    private static String fingerprint(@Nullable GooglePayRequest googlePayRequest) {
+        if (googlePayRequest == null) {
+            return "";
+        }
+
+        // GooglePayRequest does not implement equals(); compare parceled contents instead so that
+        // a request that was passed to DropInActivity through an Intent maps to the same key
+        Parcel parcel = Parcel.obtain();
+        try {
+            googlePayRequest.writeToParcel(parcel, 0);
+            return String.valueOf(Arrays.hashCode(parcel.marshall()));
+        } finally {
+            parcel.recycle();
+        }
+    }
+}
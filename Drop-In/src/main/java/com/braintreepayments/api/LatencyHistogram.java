@@ -0,0 +1,87 @@
+package com.braintreepayments.api;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed-bucket histogram of operation latencies. Recording does not allocate; percentiles are
+ * estimated by interpolating within the bucket that contains the requested rank.
+ */
+class LatencyHistogram {
+
+    // roughly logarithmic; network operations are expected in the 100ms - 10s range
+    private static final long[] BUCKET_UPPER_BOUNDS_MILLIS = {
+            1, 2, 5, 10, 20, 50, 100, 200, 300, 500, 750, 1000, 1500, 2000, 3000, 5000, 7500,
+            10000, 20000, 30000, 60000
+    };
+
+    private static final long[] BUCKET_UPPER_BOUNDS_NANOS = new long[BUCKET_UPPER_BOUNDS_MILLIS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MILLIS.length; i++) {
+            BUCKET_UPPER_BOUNDS_NANOS[i] = TimeUnit.MILLISECONDS.toNanos(BUCKET_UPPER_BOUNDS_MILLIS[i]);
+        }
+    }
+
+    // the last bucket holds latencies above the largest upper bound
+    private final long[] counts = new long[BUCKET_UPPER_BOUNDS_NANOS.length + 1];
+    private long count;
+    private long maxNanos;
+
+    synchronized void record(long durationNanos) {
+        long duration = Math.max(0, durationNanos);
+        int bucket = Arrays.binarySearch(BUCKET_UPPER_BOUNDS_NANOS, duration);
+        if (bucket < 0) {
+            bucket = -bucket - 1;
+        }
+
+        counts[bucket]++;
+        count++;
+        maxNanos = Math.max(maxNanos, duration);
+    }
+
+    synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * @param quantile a value between 0 and 1, e.g. 0.95 for the 95th percentile
+     * @return the estimated latency at the given quantile in milliseconds, or 0 if nothing has
+     * been recorded
+     */
+    synchronized double getPercentileMillis(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        double maxMillis = maxNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+
+        long countBelow = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (countBelow + counts[i] >= rank) {
+                double lower = (i == 0) ? 0 : BUCKET_UPPER_BOUNDS_MILLIS[i - 1];
+                double upper = (i < BUCKET_UPPER_BOUNDS_MILLIS.length) ? BUCKET_UPPER_BOUNDS_MILLIS[i] : maxMillis;
+                double fraction = (rank - countBelow) / (double) counts[i];
+                return Math.min(maxMillis, lower + (upper - lower) * fraction);
+            }
+            countBelow += counts[i];
+        }
+        return maxMillis;
+    }
+
+    synchronized double getMaxMillis() {
+        return maxNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    synchronized DropInLatencySnapshot snapshot(String operation) {
+        return new DropInLatencySnapshot(operation, count,
+                getPercentileMillis(0.5), getPercentileMillis(0.95), getPercentileMillis(0.99), getMaxMillis());
+    }
+
+    synchronized void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        maxNanos = 0;
+    }
+}
@@ -0,0 +1,34 @@
+package com.braintreepayments.api;
+
+/**
+ * Holds a value that is created on first access. Used by {@link DropInClientParams} to defer
+ * construction of payment method clients until the flow that needs them is started.
+ *
+ * @param <T> the type of value held
+ */
+abstract class Lazy<T> {
+
+    private T value;
+
+    static <T> Lazy<T> of(final T value) {
+        return new Lazy<T>() {
+            @Override
+            T initialize() {
+                return value;
+            }
+        };
+    }
+
+    abstract T initialize();
+
+    synchronized T get() {
+        if (value == null) {
+            value = initialize();
+        }
+        return value;
+    }
+
+    synchronized boolean isInitialized() {
+        return value != null;
+    }
+}
@@ -3,67 +3,67 @@ package com.braintreepayments.api;
 import android.content.Context;
 import android.content.res.Resources;
 import android.net.Uri;
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 
-import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Class used to retrieve a customer's payment methods.
  */
 class PaymentMethodClient {
 
-    private static final String PAYMENT_METHOD_NONCE_COLLECTION_KEY = "paymentMethods";
-    private static final String PAYMENT_METHOD_TYPE_KEY = "type";
-
-    private static final String PAYMENT_METHOD_TYPE_CARD = "CreditCard";
-    private static final String PAYMENT_METHOD_TYPE_PAYPAL = "PayPalAccount";
-    private static final String PAYMENT_METHOD_TYPE_VENMO = "VenmoAccount";
-
     private static final String SINGLE_USE_TOKEN_ID = "singleUseTokenId";
     private static final String VARIABLES = "variables";
     private static final String INPUT = "input";
     private static final String CLIENT_SDK_META_DATA = "clientSdkMetadata";
 
+    private static Executor defaultParsingExecutor;
+
     private final BraintreeClient braintreeClient;
+    private final Executor parsingExecutor;
+    private final Executor callbackExecutor;
 
     PaymentMethodClient(BraintreeClient braintreeClient) {
-        this.braintreeClient = braintreeClient;
+        this(braintreeClient, getDefaultParsingExecutor(), new MainThreadExecutor());
     }
 
-    private static List<PaymentMethodNonce> parsePaymentMethodNonces(String jsonBody) throws JSONException {
-        JSONArray paymentMethods =
-                new JSONObject(jsonBody).getJSONArray(PAYMENT_METHOD_NONCE_COLLECTION_KEY);
-
-        List<PaymentMethodNonce> result = new ArrayList<>();
-        for (int i = 0; i < paymentMethods.length(); i++) {
-            JSONObject json = paymentMethods.getJSONObject(i);
-            PaymentMethodNonce paymentMethodNonce = parseVaultSupportedPaymentMethodNonce(json);
-            if (paymentMethodNonce != null) {
-                result.add(paymentMethodNonce);
-            }
-        }
-
-        return result;
+    /**
+     * @param parsingExecutor executor used to parse payment methods returned by the Braintree gateway
+     * @param callbackExecutor executor used to deliver parsed payment methods
+     */
+    @VisibleForTesting
+    PaymentMethodClient(BraintreeClient braintreeClient, Executor parsingExecutor, Executor callbackExecutor) {
+        this.braintreeClient = braintreeClient;
+        this.parsingExecutor = parsingExecutor;
+        this.callbackExecutor = callbackExecutor;
     }
 
-    private static PaymentMethodNonce parseVaultSupportedPaymentMethodNonce(JSONObject json) throws JSONException {
-        // NOTE: Since 3.x, Card, PayPal, Venmo, and Visa Checkout were the only payment methods supported by the vault manager
-        String type = json.getString(PAYMENT_METHOD_TYPE_KEY);
-        switch (type) {
-            case PAYMENT_METHOD_TYPE_CARD:
-                return CardNonce.fromJSON(json);
-            case PAYMENT_METHOD_TYPE_PAYPAL:
-                return PayPalAccountNonce.fromJSON(json);
-            case PAYMENT_METHOD_TYPE_VENMO:
-                return VenmoAccountNonce.fromJSON(json);
-            default:
-                return null;
+    private static synchronized Executor getDefaultParsingExecutor() {
+        if (defaultParsingExecutor == null) {
+            defaultParsingExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(@NonNull final Runnable runnable) {
+                    return new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                            runnable.run();
+                        }
+                    }, "DropInPaymentMethodParser");
+                }
+            });
         }
+        return defaultParsingExecutor;
     }
 
     void getPaymentMethodNonces(boolean defaultFirst, final GetPaymentMethodNoncesCallback callback) {
@@ -75,15 +75,19 @@ class PaymentMethodClient {
 
         braintreeClient.sendGET(uri.toString(), new HttpResponseCallback() {
             @Override
-            public void onResult(String responseBody, Exception httpError) {
+            public void onResult(final String responseBody, Exception httpError) {
                 if (responseBody != null) {
-                    try {
-                        callback.onResult(parsePaymentMethodNonces(responseBody), null);
-                        braintreeClient.sendAnalyticsEvent("get-payment-methods.succeeded");
-                    } catch (JSONException e) {
-                        callback.onResult(null, e);
-                        braintreeClient.sendAnalyticsEvent("get-payment-methods.failed");
-                    }
+                    // large vaults take long enough to parse to drop frames on the main thread
+                    parsingExecutor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                notifyPaymentMethodNoncesResult(PaymentMethodNoncesParser.parse(responseBody), null, callback);
+                            } catch (JSONException e) {
+                                notifyPaymentMethodNoncesResult(null, e, callback);
+                            }
+                        }
+                    });
                 } else {
                     callback.onResult(null, httpError);
                     braintreeClient.sendAnalyticsEvent("get-payment-methods.failed");
@@ -92,6 +96,20 @@ class PaymentMethodClient {
         });
     }
 
+    private void notifyPaymentMethodNoncesResult(final List<PaymentMethodNonce> paymentMethodNonces, final Exception error, final GetPaymentMethodNoncesCallback callback) {
+        callbackExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                callback.onResult(paymentMethodNonces, error);
+                if (paymentMethodNonces != null) {
+                    braintreeClient.sendAnalyticsEvent("get-payment-methods.succeeded");
+                } else {
+                    braintreeClient.sendAnalyticsEvent("get-payment-methods.failed");
+                }
+            }
+        });
+    }
+
     void getPaymentMethodNonces(GetPaymentMethodNoncesCallback callback) {
         getPaymentMethodNonces(false, callback);
     }
@@ -0,0 +1,28 @@
+package com.braintreepayments.api;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+/**
+ * Compares vaulted payment methods so that only rows that were added, removed or changed are
+ * rebound and animated. Payment methods are identified by their type and description, since
+ * their nonce strings can change each time the vault is fetched; see
+ * {@link PaymentMethodNonceInspector#getIdentity(PaymentMethodNonce)}. A row whose nonce string
+ * changed is rebound, so that it never holds a nonce that is no longer valid.
+ */
+class PaymentMethodNonceDiffCallback extends DiffUtil.ItemCallback<PaymentMethodNonce> {
+
+    private final PaymentMethodNonceInspector nonceInspector = new PaymentMethodNonceInspector();
+
+    @Override
+    public boolean areItemsTheSame(@NonNull PaymentMethodNonce oldNonce, @NonNull PaymentMethodNonce newNonce) {
+        return nonceInspector.getIdentity(oldNonce).equals(nonceInspector.getIdentity(newNonce));
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull PaymentMethodNonce oldNonce, @NonNull PaymentMethodNonce newNonce) {
+        return oldNonce.getClass() == newNonce.getClass()
+                && oldNonce.isDefault() == newNonce.isDefault()
+                && oldNonce.getString().equals(newNonce.getString());
+    }
+}
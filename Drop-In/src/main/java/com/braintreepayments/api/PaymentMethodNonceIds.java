@@ -0,0 +1,60 @@
+package com.braintreepayments.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns stable RecyclerView item IDs to the displayed payment methods, derived from
+ * {@link PaymentMethodNonceInspector#getIdentity(PaymentMethodNonce)}. Unlike a hash of the
+ * identity, IDs assigned by an instance never collide, and only the IDs of the payment methods
+ * in the current list are kept.
+ */
+class PaymentMethodNonceIds {
+
+    private final PaymentMethodNonceInspector nonceInspector = new PaymentMethodNonceInspector();
+
+    private Map<String, Long> ids = new HashMap<>();
+    private List<PaymentMethodNonce> paymentMethodNonces;
+    private List<Long> positionIds = Collections.emptyList();
+    private long nextId;
+
+    /**
+     * @param paymentMethodNonces the displayed payment methods
+     * @param position the position of a payment method in the list
+     * @return the ID of the payment method at the position
+     */
+    long getId(List<PaymentMethodNonce> paymentMethodNonces, int position) {
+        if (paymentMethodNonces != this.paymentMethodNonces) {
+            assignIds(paymentMethodNonces);
+        }
+        return positionIds.get(position);
+    }
+
+    private void assignIds(List<PaymentMethodNonce> paymentMethodNonces) {
+        Map<String, Long> assignedIds = new HashMap<>();
+        List<Long> assignedPositionIds = new ArrayList<>(paymentMethodNonces.size());
+        for (PaymentMethodNonce paymentMethodNonce : paymentMethodNonces) {
+            String identity = nonceInspector.getIdentity(paymentMethodNonce);
+
+            // the same card can be vaulted more than once; number the duplicates
+            String key = identity;
+            for (int i = 1; assignedIds.containsKey(key); i++) {
+                key = identity + "#" + i;
+            }
+
+            Long id = ids.get(key);
+            if (id == null) {
+                id = nextId++;
+            }
+            assignedIds.put(key, id);
+            assignedPositionIds.add(id);
+        }
+
+        ids = assignedIds;
+        positionIds = assignedPositionIds;
+        this.paymentMethodNonces = paymentMethodNonces;
+    }
+}
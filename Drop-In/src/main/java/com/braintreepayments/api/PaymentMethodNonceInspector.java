@@ -29,4 +29,17 @@ class PaymentMethodNonceInspector {
             return "";
         }
     }
+
+    /**
+     * @return an identifier of the vaulted payment method that, unlike its nonce string, stays
+     * the same when the vault is fetched again
+     */
+    String getIdentity(PaymentMethodNonce paymentMethodNonce) {
+        String description = getDescription(paymentMethodNonce);
+        if (description == null || description.isEmpty()) {
+            return paymentMethodNonce.getString();
+        }
+        return paymentMethodNonce.getClass().getSimpleName() + ":"
+                + getTypeLabel(paymentMethodNonce) + ":" + description;
+    }
 }
@@ -0,0 +1,209 @@
+package com.braintreepayments.api;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import androidx.annotation.Nullable;
+import androidx.tracing.Trace;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streaming parser for responses from the payment methods endpoint.
+ * <p>
+ * The {@code paymentMethods} array is read one entry at a time; only entries of a type supported
+ * by the vault manager are materialized, and top level keys other than {@code paymentMethods} are
+ * skipped without being read into memory. Of each entry, only the keys read by the
+ * {@code fromJSON} methods of {@link CardNonce}, {@link PayPalAccountNonce} and
+ * {@link VenmoAccountNonce} are copied into the {@link JSONObject} handed to them.
+ */
+class PaymentMethodNoncesParser {
+
+    private static final String PAYMENT_METHOD_NONCE_COLLECTION_KEY = "paymentMethods";
+    private static final String PAYMENT_METHOD_TYPE_KEY = "type";
+
+    private static final String PAYMENT_METHOD_TYPE_CARD = "CreditCard";
+    private static final String PAYMENT_METHOD_TYPE_PAYPAL = "PayPalAccount";
+    private static final String PAYMENT_METHOD_TYPE_VENMO = "VenmoAccount";
+
+    // keys of a payment methods entry read by CardNonce, PayPalAccountNonce and VenmoAccountNonce;
+    // other keys, e.g. "isLocked" and "securityQuestions", are skipped
+    private static final Set<String> PAYMENT_METHOD_KEYS = new HashSet<>(Arrays.asList(
+            PAYMENT_METHOD_TYPE_KEY,
+            "nonce",
+            "description",
+            "default",
+            "details",
+            "threeDSecureInfo",
+            "binData",
+            "authenticationInsight"
+    ));
+
+    private PaymentMethodNoncesParser() {
+    }
+
+    static List<PaymentMethodNonce> parse(String jsonBody) throws JSONException {
+        Trace.beginSection("PaymentMethodNoncesParser.parse");
+        try {
+            JsonReader reader = new JsonReader(new StringReader(jsonBody));
+            try {
+                List<PaymentMethodNonce> result = null;
+
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (PAYMENT_METHOD_NONCE_COLLECTION_KEY.equals(reader.nextName())) {
+                        result = readPaymentMethodNonces(reader);
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+
+                if (result == null) {
+                    throw new JSONException("No value for " + PAYMENT_METHOD_NONCE_COLLECTION_KEY);
+                }
+                return Collections.unmodifiableList(result);
+            } catch (IOException | IllegalStateException | NumberFormatException e) {
+                JSONException error = new JSONException(e.getMessage());
+                error.initCause(e);
+                throw error;
+            } finally {
+                try {
+                    reader.close();
+                } catch (IOException ignored) {
+                    // reading from a String
+                }
+            }
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    private static List<PaymentMethodNonce> readPaymentMethodNonces(JsonReader reader) throws IOException, JSONException {
+        List<PaymentMethodNonce> result = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            PaymentMethodNonce paymentMethodNonce = readPaymentMethodNonce(reader);
+            if (paymentMethodNonce != null) {
+                result.add(paymentMethodNonce);
+            }
+        }
+        reader.endArray();
+
+        return result;
+    }
+
+    @Nullable
+    private static PaymentMethodNonce readPaymentMethodNonce(JsonReader reader) throws IOException, JSONException {
+        JSONObject json = new JSONObject();
+        String type = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (!PAYMENT_METHOD_KEYS.contains(name)) {
+                reader.skipValue();
+                continue;
+            }
+
+            Object value = readValue(reader);
+            json.put(name, value);
+
+            if (PAYMENT_METHOD_TYPE_KEY.equals(name)) {
+                type = String.valueOf(value);
+                if (!isVaultSupportedType(type)) {
+                    // the entry will be discarded; skip the remainder without materializing it
+                    while (reader.hasNext()) {
+                        reader.nextName();
+                        reader.skipValue();
+                    }
+                }
+            }
+        }
+        reader.endObject();
+
+        if (type == null) {
+            throw new JSONException("No value for " + PAYMENT_METHOD_TYPE_KEY);
+        }
+
+        // NOTE: Since 3.x, Card, PayPal, Venmo, and Visa Checkout were the only payment methods supported by the vault manager
+        switch (type) {
+            case PAYMENT_METHOD_TYPE_CARD:
+                return CardNonce.fromJSON(json);
+            case PAYMENT_METHOD_TYPE_PAYPAL:
+                return PayPalAccountNonce.fromJSON(json);
+            case PAYMENT_METHOD_TYPE_VENMO:
+                return VenmoAccountNonce.fromJSON(json);
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isVaultSupportedType(String type) {
+        return PAYMENT_METHOD_TYPE_CARD.equals(type)
+                || PAYMENT_METHOD_TYPE_PAYPAL.equals(type)
+                || PAYMENT_METHOD_TYPE_VENMO.equals(type);
+    }
+
+    private static Object readValue(JsonReader reader) throws IOException, JSONException {
+        JsonToken token = reader.peek();
+        switch (token) {
+            case BEGIN_OBJECT:
+                return readObject(reader);
+            case BEGIN_ARRAY:
+                return readArray(reader);
+            case STRING:
+                return reader.nextString();
+            case NUMBER:
+                return readNumber(reader);
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NULL:
+                reader.nextNull();
+                return JSONObject.NULL;
+            default:
+                throw new JSONException("Unexpected token " + token);
+        }
+    }
+
+    private static JSONObject readObject(JsonReader reader) throws IOException, JSONException {
+        JSONObject json = new JSONObject();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            json.put(reader.nextName(), readValue(reader));
+        }
+        reader.endObject();
+        return json;
+    }
+
+    private static JSONArray readArray(JsonReader reader) throws IOException, JSONException {
+        JSONArray json = new JSONArray();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            json.put(readValue(reader));
+        }
+        reader.endArray();
+        return json;
+    }
+
+    private static Number readNumber(JsonReader reader) throws IOException {
+        String number = reader.nextString();
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            return Double.parseDouble(number);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
+import androidx.tracing.Trace;
 
 import com.braintreepayments.api.dropin.R;
 
@@ -32,14 +33,19 @@ class SupportedPaymentMethodsAdapter extends RecyclerView.Adapter<SupportedPayme
 
     @Override
     public void onBindViewHolder(@NonNull SupportedPaymentMethodViewHolder holder, int position) {
-        final DropInPaymentMethodType paymentMethodType = supportedPaymentMethods.get(position);
-        holder.bind(paymentMethodType);
-        holder.setOnClickListener(new View.OnClickListener() {
-            @Override
-            public void onClick(View v) {
-                listener.onPaymentMethodSelected(paymentMethodType);
-            }
-        });
+        Trace.beginSection("SupportedPaymentMethodsAdapter.onBindViewHolder");
+        try {
+            final DropInPaymentMethodType paymentMethodType = supportedPaymentMethods.get(position);
+            holder.bind(paymentMethodType);
+            holder.setOnClickListener(new View.OnClickListener() {
+                @Override
+                public void onClick(View v) {
+                    listener.onPaymentMethodSelected(paymentMethodType);
+                }
+            });
+        } finally {
+            Trace.endSection();
+        }
     }
 
     @Override
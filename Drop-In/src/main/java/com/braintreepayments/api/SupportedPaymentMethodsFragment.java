@@ -86,7 +86,7 @@ public class SupportedPaymentMethodsFragment extends DropInFragment implements S
         new LinearSnapHelper().attachToRecyclerView(vaultedPaymentMethodsView);
 
         dropInViewModel = new ViewModelProvider(requireActivity()).get(DropInViewModel.class);
-        if (hasSupportedPaymentMethods()) {
+        if (hasPaymentMethodsToShow()) {
             setViewState(ViewState.SHOW_PAYMENT_METHODS);
         } else {
             setViewState(ViewState.LOADING);
@@ -104,7 +104,9 @@ public class SupportedPaymentMethodsFragment extends DropInFragment implements S
         dropInViewModel.getVaultedPaymentMethods().observe(getViewLifecycleOwner(), new Observer<List<PaymentMethodNonce>>() {
             @Override
             public void onChanged(List<PaymentMethodNonce> paymentMethodNonces) {
-                if (hasVaultedPaymentMethods()) {
+                if (viewState == ViewState.LOADING && hasPaymentMethodsToShow()) {
+                    setViewState(ViewState.SHOW_PAYMENT_METHODS);
+                } else if (hasVaultedPaymentMethods()) {
                     refreshView();
                 }
             }
@@ -134,7 +136,7 @@ public class SupportedPaymentMethodsFragment extends DropInFragment implements S
     public void onResume() {
         super.onResume();
 
-        if (viewState == ViewState.LOADING && hasSupportedPaymentMethods()) {
+        if (viewState == ViewState.LOADING && hasPaymentMethodsToShow()) {
             setViewState(ViewState.SHOW_PAYMENT_METHODS);
         }
     }
@@ -147,6 +149,15 @@ public class SupportedPaymentMethodsFragment extends DropInFragment implements S
         return dropInViewModel.getVaultedPaymentMethods().getValue() != null;
     }
 
+    private boolean hasPaymentMethodsToShow() {
+        // a vault from a previous session is drawn right away instead of the loader, and is
+        // reconciled once the up to date list arrives
+        List<PaymentMethodNonce> vaultedPaymentMethods =
+                dropInViewModel.getVaultedPaymentMethods().getValue();
+        return hasSupportedPaymentMethods()
+                || (vaultedPaymentMethods != null && vaultedPaymentMethods.size() > 0);
+    }
+
     private void setViewState(ViewState viewState) {
         this.viewState = viewState;
         refreshView();
@@ -163,7 +174,9 @@ public class SupportedPaymentMethodsFragment extends DropInFragment implements S
                 break;
             case SHOW_PAYMENT_METHODS:
                 hideLoader();
-                showSupportedPaymentMethods();
+                if (hasSupportedPaymentMethods()) {
+                    showSupportedPaymentMethods();
+                }
                 if (hasVaultedPaymentMethods()) {
                     showVaultedPaymentMethods();
                 }
@@ -201,6 +214,12 @@ public class SupportedPaymentMethodsFragment extends DropInFragment implements S
 
     @Override
     public void onVaultedPaymentMethodSelected(PaymentMethodNonce paymentMethodNonce) {
+        if (dropInViewModel.areVaultedPaymentMethodsStale()) {
+            // nonces from a previous session may no longer be valid; the rows are disabled until
+            // the refreshed list arrives
+            return;
+        }
+
         if (paymentMethodNonce instanceof CardNonce) {
             sendAnalyticsEvent("vaulted-card.select");
         }
@@ -222,9 +241,15 @@ public class SupportedPaymentMethodsFragment extends DropInFragment implements S
             vaultedPaymentMethodsContainer.setVisibility(View.VISIBLE);
 
             VaultedPaymentMethodsAdapter vaultedPaymentMethodsAdapter =
-                    new VaultedPaymentMethodsAdapter(paymentMethodNonces, this);
-
-            vaultedPaymentMethodsView.setAdapter(vaultedPaymentMethodsAdapter);
+                    (VaultedPaymentMethodsAdapter) vaultedPaymentMethodsView.getAdapter();
+            if (vaultedPaymentMethodsAdapter == null) {
+                vaultedPaymentMethodsAdapter = new VaultedPaymentMethodsAdapter(paymentMethodNonces, this);
+                vaultedPaymentMethodsView.setAdapter(vaultedPaymentMethodsAdapter);
+            } else {
+                // only rows that changed since the last render are animated
+                vaultedPaymentMethodsAdapter.setPaymentMethodNonces(paymentMethodNonces);
+            }
+            vaultedPaymentMethodsAdapter.setEnabled(!dropInViewModel.areVaultedPaymentMethodsStale());
 
             if (dropInRequest.isVaultManagerEnabled()) {
                 vaultManagerButton.setVisibility(View.VISIBLE);
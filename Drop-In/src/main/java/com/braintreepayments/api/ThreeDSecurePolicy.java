@@ -0,0 +1,58 @@
+package com.braintreepayments.api;
+
+import android.text.TextUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decides whether a payment method nonce requires 3DS verification. The decision only depends on
+ * the {@link Configuration} and {@link DropInRequest} of a Drop-in session, so the policy is
+ * computed once per session and evaluated synchronously for every nonce.
+ */
+class ThreeDSecurePolicy {
+
+    private final boolean isThreeDSecureRequested;
+
+    private ThreeDSecurePolicy(boolean isThreeDSecureRequested) {
+        this.isThreeDSecureRequested = isThreeDSecureRequested;
+    }
+
+    static ThreeDSecurePolicy from(Configuration configuration, DropInRequest dropInRequest) {
+        ThreeDSecureRequest threeDSecureRequest = dropInRequest.getThreeDSecureRequest();
+        boolean hasAmount = (threeDSecureRequest != null && !TextUtils.isEmpty(threeDSecureRequest.getAmount()));
+
+        boolean isThreeDSecureRequested = dropInRequest.getRequestThreeDSecureVerification()
+                && configuration.isThreeDSecureEnabled()
+                && hasAmount;
+        return new ThreeDSecurePolicy(isThreeDSecureRequested);
+    }
+
+    boolean shouldRequestThreeDSecureVerification(PaymentMethodNonce paymentMethodNonce) {
+        return isThreeDSecureRequested && canPerformThreeDSecureVerification(paymentMethodNonce);
+    }
+
+    /**
+     * @return the decision for each of the given payment methods, keyed by nonce string
+     */
+    Map<String, Boolean> evaluate(List<PaymentMethodNonce> paymentMethodNonces) {
+        Map<String, Boolean> result = new HashMap<>();
+        for (PaymentMethodNonce paymentMethodNonce : paymentMethodNonces) {
+            result.put(paymentMethodNonce.getString(), shouldRequestThreeDSecureVerification(paymentMethodNonce));
+        }
+        return result;
+    }
+
+    static boolean canPerformThreeDSecureVerification(PaymentMethodNonce paymentMethodNonce) {
+        if (paymentMethodNonce instanceof CardNonce) {
+            return true;
+        }
+
+        if (paymentMethodNonce instanceof GooglePayCardNonce) {
+            return !((GooglePayCardNonce) paymentMethodNonce).isNetworkTokenized();
+        }
+
+        return false;
+    }
+}
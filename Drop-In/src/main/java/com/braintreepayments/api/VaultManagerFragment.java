@@ -66,7 +66,11 @@ public class VaultManagerFragment extends DropInFragment implements View.OnClick
     }
 
     private void showVaultedPaymentMethods(List<PaymentMethodNonce> vaultedPaymentMethodNonces) {
-        adapter = new VaultManagerPaymentMethodsAdapter(this, vaultedPaymentMethodNonces);
-        vaultManagerView.setAdapter(adapter);
+        if (adapter == null || vaultManagerView.getAdapter() != adapter) {
+            adapter = new VaultManagerPaymentMethodsAdapter(this, vaultedPaymentMethodNonces);
+            vaultManagerView.setAdapter(adapter);
+        } else {
+            adapter.setPaymentMethodNonces(vaultedPaymentMethodNonces);
+        }
     }
 }
\ No newline at end of file
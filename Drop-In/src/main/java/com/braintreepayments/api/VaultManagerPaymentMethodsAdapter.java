@@ -4,19 +4,36 @@ import android.view.View;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
+import androidx.tracing.Trace;
 
 
 import java.util.ArrayList;
 import java.util.List;
 
-class VaultManagerPaymentMethodsAdapter extends RecyclerView.Adapter<VaultManagerPaymentMethodsAdapter.ViewHolder> {
-    private final List<PaymentMethodNonce> vaultedPaymentMethodNonces;
+class VaultManagerPaymentMethodsAdapter extends ListAdapter<PaymentMethodNonce, VaultManagerPaymentMethodsAdapter.ViewHolder> {
     private final View.OnClickListener clickListener;
+    private final PaymentMethodNonceIds paymentMethodNonceIds = new PaymentMethodNonceIds();
 
     VaultManagerPaymentMethodsAdapter(View.OnClickListener clickListener, List<PaymentMethodNonce> vaultedPaymentMethodNonces) {
+        super(new PaymentMethodNonceDiffCallback());
         this.clickListener = clickListener;
-        this.vaultedPaymentMethodNonces = vaultedPaymentMethodNonces;
+        setHasStableIds(true);
+        submitList(vaultedPaymentMethodNonces);
+    }
+
+    /**
+     * Replace the displayed payment methods. The lists are diffed on a background thread and only
+     * the rows that changed are rebound.
+     */
+    void setPaymentMethodNonces(List<PaymentMethodNonce> paymentMethodNonces) {
+        submitList(paymentMethodNonces);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return paymentMethodNonceIds.getId(getCurrentList(), position);
     }
 
     @NonNull
@@ -27,27 +44,27 @@ class VaultManagerPaymentMethodsAdapter extends RecyclerView.Adapter<VaultManage
 
     @Override
     public void onBindViewHolder(ViewHolder holder, int position) {
-        final PaymentMethodNonce paymentMethodNonce = vaultedPaymentMethodNonces.get(position);
-        final PaymentMethodItemView paymentMethodItemView = ((PaymentMethodItemView)holder.itemView);
-
-        paymentMethodItemView.setPaymentMethod(paymentMethodNonce, true);
-        paymentMethodItemView.setOnDeleteIconClick(new View.OnClickListener() {
-            @Override
-            public void onClick(View v) {
-                if (clickListener != null) {
-                    clickListener.onClick(paymentMethodItemView);
-                }
-            }
-        });
-    }
+        Trace.beginSection("VaultManagerPaymentMethodsAdapter.onBindViewHolder");
+        try {
+            final PaymentMethodNonce paymentMethodNonce = getItem(position);
+            final PaymentMethodItemView paymentMethodItemView = ((PaymentMethodItemView)holder.itemView);
 
-    @Override
-    public int getItemCount() {
-        return vaultedPaymentMethodNonces.size();
+            paymentMethodItemView.setPaymentMethod(paymentMethodNonce, true);
+            paymentMethodItemView.setOnDeleteIconClick(new View.OnClickListener() {
+                @Override
+                public void onClick(View v) {
+                    if (clickListener != null) {
+                        clickListener.onClick(paymentMethodItemView);
+                    }
+                }
+            });
+        } finally {
+            Trace.endSection();
+        }
     }
 
     ArrayList<PaymentMethodNonce> getPaymentMethodNonces() {
-        return new ArrayList<>(vaultedPaymentMethodNonces);
+        return new ArrayList<>(getCurrentList());
     }
 
     static class ViewHolder extends RecyclerView.ViewHolder {
@@ -56,4 +73,3 @@ class VaultManagerPaymentMethodsAdapter extends RecyclerView.Adapter<VaultManage
         }
     }
 }
-
@@ -10,6 +10,8 @@ import com.braintreepayments.api.dropin.R;
 
 class VaultedPaymentMethodViewHolder extends RecyclerView.ViewHolder {
 
+    private static final float DISABLED_ALPHA = 0.5f;
+
     private final ImageView icon;
     private final TextView title;
     private final TextView description;
@@ -32,6 +34,11 @@ class VaultedPaymentMethodViewHolder extends RecyclerView.ViewHolder {
         description.setText(nonceInspector.getDescription(paymentMethodNonce));
     }
 
+    void setEnabled(boolean enabled) {
+        itemView.setEnabled(enabled);
+        itemView.setAlpha(enabled ? 1f : DISABLED_ALPHA);
+    }
+
     void setOnClickListener(View.OnClickListener listener) {
         itemView.setOnClickListener(listener);
     }
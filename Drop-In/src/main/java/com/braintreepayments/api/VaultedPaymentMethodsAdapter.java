@@ -5,20 +5,50 @@ import android.view.View;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
+import androidx.tracing.Trace;
 
 import java.util.List;
 
 import com.braintreepayments.api.dropin.R;
 
-class VaultedPaymentMethodsAdapter extends RecyclerView.Adapter<VaultedPaymentMethodViewHolder> {
+class VaultedPaymentMethodsAdapter extends ListAdapter<PaymentMethodNonce, VaultedPaymentMethodViewHolder> {
 
-    private final List<PaymentMethodNonce> paymentMethodNonces;
     private final VaultedPaymentMethodSelectedListener listener;
+    private final PaymentMethodNonceIds paymentMethodNonceIds = new PaymentMethodNonceIds();
+
+    private boolean enabled = true;
 
     VaultedPaymentMethodsAdapter(List<PaymentMethodNonce> paymentMethodNonces, VaultedPaymentMethodSelectedListener listener) {
+        super(new PaymentMethodNonceDiffCallback());
         this.listener = listener;
-        this.paymentMethodNonces = paymentMethodNonces;
+        setHasStableIds(true);
+        submitList(paymentMethodNonces);
+    }
+
+    /**
+     * Replace the displayed payment methods. The lists are diffed on a background thread and only
+     * the rows that changed are rebound.
+     */
+    void setPaymentMethodNonces(List<PaymentMethodNonce> paymentMethodNonces) {
+        submitList(paymentMethodNonces);
+    }
+
+    /**
+     * Disable the rows, e.g. while they show payment methods from a previous session that may no
+     * longer be in the customer's vault.
+     */
+    void setEnabled(boolean enabled) {
+        if (this.enabled != enabled) {
+            this.enabled = enabled;
+            notifyItemRangeChanged(0, getItemCount());
+        }
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return paymentMethodNonceIds.getId(getCurrentList(), position);
     }
 
     @NonNull
@@ -31,19 +61,24 @@ class VaultedPaymentMethodsAdapter extends RecyclerView.Adapter<VaultedPaymentMe
     }
 
     @Override
-    public void onBindViewHolder(@NonNull VaultedPaymentMethodViewHolder holder, int position) {
-        final PaymentMethodNonce paymentMethodNonce = paymentMethodNonces.get(position);
-        holder.bind(paymentMethodNonce);
-        holder.setOnClickListener(new View.OnClickListener() {
-            @Override
-            public void onClick(View v) {
-                listener.onVaultedPaymentMethodSelected(paymentMethodNonce);
-            }
-        });
-    }
-
-    @Override
-    public int getItemCount() {
-        return paymentMethodNonces.size();
+    public void onBindViewHolder(@NonNull final VaultedPaymentMethodViewHolder holder, int position) {
+        Trace.beginSection("VaultedPaymentMethodsAdapter.onBindViewHolder");
+        try {
+            holder.bind(getItem(position));
+            holder.setEnabled(enabled);
+            holder.setOnClickListener(new View.OnClickListener() {
+                @Override
+                public void onClick(View v) {
+                    // the row may have moved since it was bound; select the payment method
+                    // currently at its position
+                    int adapterPosition = holder.getBindingAdapterPosition();
+                    if (adapterPosition != RecyclerView.NO_POSITION) {
+                        listener.onVaultedPaymentMethodSelected(getItem(adapterPosition));
+                    }
+                }
+            });
+        } finally {
+            Trace.endSection();
+        }
     }
 }
@@ -0,0 +1,76 @@
+package com.braintreepayments.api;
+
+import androidx.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Joins the results of the configuration fetch, the vaulted payment method fetch and the
+ * Google Pay readiness check, which are started concurrently by
+ * {@link DropInClient#getVaultedPaymentMethods(androidx.fragment.app.FragmentActivity, GetPaymentMethodNoncesCallback)}.
+ * The callback is notified exactly once: with the first error to arrive, or with the filtered
+ * list of vaulted payment methods once all three results are available.
+ */
+class VaultedPaymentMethodsAggregator {
+
+    private final DropInRequest dropInRequest;
+    private final GetPaymentMethodNoncesCallback callback;
+
+    private Configuration configuration;
+    private List<PaymentMethodNonce> paymentMethodNonces;
+    private Boolean isReadyToPay;
+
+    private boolean isComplete;
+
+    VaultedPaymentMethodsAggregator(DropInRequest dropInRequest, GetPaymentMethodNoncesCallback callback) {
+        this.dropInRequest = dropInRequest;
+        this.callback = callback;
+    }
+
+    void onConfigurationResult(@Nullable Configuration configuration, @Nullable Exception error) {
+        synchronized (this) {
+            this.configuration = configuration;
+        }
+        onResult(error);
+    }
+
+    void onPaymentMethodNoncesResult(@Nullable List<PaymentMethodNonce> paymentMethodNonces, @Nullable Exception error) {
+        synchronized (this) {
+            this.paymentMethodNonces = paymentMethodNonces;
+        }
+        onResult(error);
+    }
+
+    void onGooglePayReadinessResult(boolean isReadyToPay) {
+        synchronized (this) {
+            this.isReadyToPay = isReadyToPay;
+        }
+        onResult(null);
+    }
+
+    private void onResult(@Nullable Exception error) {
+        AvailablePaymentMethodNonceList availablePaymentMethodNonceList = null;
+        synchronized (this) {
+            if (isComplete) {
+                return;
+            }
+
+            if (error == null) {
+                boolean hasAllResults =
+                        configuration != null && paymentMethodNonces != null && isReadyToPay != null;
+                if (!hasAllResults) {
+                    return;
+                }
+                availablePaymentMethodNonceList = new AvailablePaymentMethodNonceList(
+                        configuration, paymentMethodNonces, dropInRequest, isReadyToPay);
+            }
+            isComplete = true;
+        }
+
+        if (availablePaymentMethodNonceList != null) {
+            callback.onResult(availablePaymentMethodNonceList.getItems(), null);
+        } else {
+            callback.onResult(null, error);
+        }
+    }
+}
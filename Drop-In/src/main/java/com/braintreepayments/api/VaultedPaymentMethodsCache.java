@@ -0,0 +1,137 @@
+package com.braintreepayments.api;
+
+import android.os.SystemClock;
+import android.util.Base64;
+
+import androidx.annotation.Nullable;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Session-scoped copy of the payment methods returned by
+ * {@link PaymentMethodClient#getPaymentMethodNonces(GetPaymentMethodNoncesCallback)}.
+ * <p>
+ * Entries are reused until they are older than the caller's TTL or the authorization used to
+ * fetch them changes. {@link DropInClient} keeps the cache in sync with flows that add or remove
+ * payment methods from the customer's vault.
+ */
+class VaultedPaymentMethodsCache {
+
+    static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final String CUSTOMER_ID_PREFIX = "customer_id=";
+
+    private String cachedKey;
+    private List<PaymentMethodNonce> cachedPaymentMethodNonces;
+    private long cachedAtMillis;
+
+    /**
+     * @param key identifies the customer the payment methods belong to; see
+     * {@link #createKey(Authorization)}
+     * @param ttlMillis maximum age of a cached entry
+     * @return the cached payment methods, or null if there is no fresh entry for the given key
+     */
+    @Nullable
+    synchronized List<PaymentMethodNonce> get(String key, long ttlMillis) {
+        if (cachedPaymentMethodNonces == null || !key.equals(cachedKey)) {
+            return null;
+        }
+
+        if (SystemClock.elapsedRealtime() - cachedAtMillis >= ttlMillis) {
+            invalidate();
+            return null;
+        }
+        return cachedPaymentMethodNonces;
+    }
+
+    synchronized void put(String key, List<PaymentMethodNonce> paymentMethodNonces) {
+        cachedKey = key;
+        cachedPaymentMethodNonces = Collections.unmodifiableList(new ArrayList<>(paymentMethodNonces));
+        cachedAtMillis = SystemClock.elapsedRealtime();
+    }
+
+    /**
+     * Remove a single payment method from the cached entry, e.g. after it has been deleted from
+     * the customer's vault. The age of the entry is unchanged.
+     */
+    synchronized void remove(PaymentMethodNonce paymentMethodNonce) {
+        if (cachedPaymentMethodNonces == null) {
+            return;
+        }
+
+        List<PaymentMethodNonce> paymentMethodNonces = new ArrayList<>(cachedPaymentMethodNonces);
+        Iterator<PaymentMethodNonce> iterator = paymentMethodNonces.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getString().equals(paymentMethodNonce.getString())) {
+                iterator.remove();
+            }
+        }
+        cachedPaymentMethodNonces = Collections.unmodifiableList(paymentMethodNonces);
+    }
+
+    /**
+     * Discard the cached entry.
+     */
+    synchronized void invalidate() {
+        cachedKey = null;
+        cachedPaymentMethodNonces = null;
+        cachedAtMillis = 0;
+    }
+
+    /**
+     * @return a key that identifies the customer's vault without containing the authorization;
+     * the customer ID in a client token's authorization fingerprint, or the fingerprint itself if
+     * the token was not generated for a customer, is hashed together with the merchant's
+     * configuration URL
+     */
+    static String createKey(@Nullable Authorization authorization) {
+        if (authorization == null) {
+            return "";
+        }
+
+        String merchant = "";
+        String customer = authorization.toString();
+        if (authorization instanceof ClientToken) {
+            try {
+                JSONObject clientToken = new JSONObject(
+                        new String(Base64.decode(authorization.toString(), Base64.DEFAULT), "UTF-8"));
+                String authorizationFingerprint = clientToken.optString("authorizationFingerprint");
+                merchant = clientToken.optString("configUrl");
+                customer = authorizationFingerprint;
+                for (String component : authorizationFingerprint.split("&")) {
+                    if (component.startsWith(CUSTOMER_ID_PREFIX)) {
+                        customer = component.substring(CUSTOMER_ID_PREFIX.length());
+                        break;
+                    }
+                }
+            } catch (IllegalArgumentException | JSONException | UnsupportedEncodingException ignored) {
+                // fall back to hashing the whole authorization
+            }
+        }
+        return sha256(merchant + "|" + customer);
+    }
+
+    static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes("UTF-8"));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException | UnsupportedEncodingException e) {
+            // SHA-256 and UTF-8 are available on every Android device
+            throw new IllegalStateException(e);
+        }
+    }
+}
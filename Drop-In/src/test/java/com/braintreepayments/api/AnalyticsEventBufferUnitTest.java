@@ -0,0 +1,100 @@
+package com.braintreepayments.api;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public class AnalyticsEventBufferUnitTest {
+
+    private BraintreeClient braintreeClient;
+    private Executor executor;
+
+    @Before
+    public void beforeEach() {
+        braintreeClient = mock(BraintreeClient.class);
+        executor = mock(Executor.class);
+    }
+
+    @Test
+    public void add_dispatchesEventOnExecutor() {
+        AnalyticsEventBuffer sut = new AnalyticsEventBuffer(braintreeClient, executor, 10);
+        sut.add("event.one");
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(captor.capture());
+        verify(braintreeClient, never()).sendAnalyticsEvent(anyString());
+
+        captor.getValue().run();
+
+        verify(braintreeClient).sendAnalyticsEvent("event.one");
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    public void add_whileDispatchIsPending_forwardsEventsWithPendingDispatchInOrder() {
+        AnalyticsEventBuffer sut = new AnalyticsEventBuffer(braintreeClient, executor, 10);
+        sut.add("event.one");
+        sut.add("event.two");
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(1)).execute(captor.capture());
+        captor.getValue().run();
+
+        InOrder inOrder = inOrder(braintreeClient);
+        inOrder.verify(braintreeClient).sendAnalyticsEvent("event.one");
+        inOrder.verify(braintreeClient).sendAnalyticsEvent("event.two");
+    }
+
+    @Test
+    public void add_afterDispatchRuns_dispatchesAgain() {
+        AnalyticsEventBuffer sut = new AnalyticsEventBuffer(braintreeClient, executor, 10);
+        sut.add("event.one");
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(captor.capture());
+        captor.getValue().run();
+
+        sut.add("event.two");
+        verify(executor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void add_whenBufferIsFull_dropsOldestEvent() {
+        AnalyticsEventBuffer sut = new AnalyticsEventBuffer(braintreeClient, executor, 2);
+        sut.add("event.one");
+        sut.add("event.two");
+        sut.add("event.three");
+        assertEquals(2, sut.size());
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(captor.capture());
+        captor.getValue().run();
+
+        verify(braintreeClient, never()).sendAnalyticsEvent("event.one");
+        verify(braintreeClient).sendAnalyticsEvent("event.two");
+        verify(braintreeClient).sendAnalyticsEvent("event.three");
+    }
+
+    @Test
+    public void flush_whenBufferIsEmpty_doesNothing() {
+        AnalyticsEventBuffer sut = new AnalyticsEventBuffer(braintreeClient, executor, 10);
+        sut.flush();
+
+        verify(executor, never()).execute(any(Runnable.class));
+    }
+}
@@ -0,0 +1,98 @@
+package com.braintreepayments.api;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public class BottomSheetJankTrackerUnitTest {
+
+    private static final long JANKY_FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SMOOTH_FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private DropInSessionCache sessionCache;
+    private DropInJankListener jankListener;
+
+    @Before
+    public void beforeEach() {
+        sessionCache = new DropInSessionCache();
+        jankListener = mock(DropInJankListener.class);
+    }
+
+    @Test
+    public void onFrame_whenFrameIsJanky_reportsFrameTaggedWithRunningTransition() {
+        BottomSheetJankTracker sut = new BottomSheetJankTracker(sessionCache);
+        sessionCache.setJankListener(jankListener);
+
+        sut.onTransitionStarted(DropInJankFrame.SLIDE_UP);
+        long frameStartNanos = System.nanoTime();
+        sut.onFrame(frameStartNanos, JANKY_FRAME_NANOS);
+
+        ArgumentCaptor<DropInJankFrame> captor = ArgumentCaptor.forClass(DropInJankFrame.class);
+        verify(jankListener).onJankyFrame(captor.capture());
+        assertEquals(DropInJankFrame.SLIDE_UP, captor.getValue().getTransition());
+        assertEquals(frameStartNanos, captor.getValue().getFrameStartNanos());
+        assertEquals(JANKY_FRAME_NANOS, captor.getValue().getFrameDurationNanos());
+    }
+
+    @Test
+    public void onFrame_whenFrameIsNotJanky_doesNotReportFrame() {
+        BottomSheetJankTracker sut = new BottomSheetJankTracker(sessionCache);
+        sessionCache.setJankListener(jankListener);
+
+        sut.onFrame(System.nanoTime(), SMOOTH_FRAME_NANOS);
+
+        verify(jankListener, never()).onJankyFrame(any(DropInJankFrame.class));
+    }
+
+    @Test
+    public void onFrame_whenFrameStartedAfterTransitionEnded_reportsFrameWithoutTransition() {
+        BottomSheetJankTracker sut = new BottomSheetJankTracker(sessionCache);
+        sessionCache.setJankListener(jankListener);
+
+        sut.onTransitionStarted(DropInJankFrame.SLIDE_DOWN);
+        sut.onTransitionEnded();
+        sut.onFrame(System.nanoTime(), JANKY_FRAME_NANOS);
+
+        ArgumentCaptor<DropInJankFrame> captor = ArgumentCaptor.forClass(DropInJankFrame.class);
+        verify(jankListener).onJankyFrame(captor.capture());
+        assertNull(captor.getValue().getTransition());
+    }
+
+    @Test
+    public void onFrame_whenFrameStartedDuringEndedTransition_reportsFrameTaggedWithThatTransition() {
+        BottomSheetJankTracker sut = new BottomSheetJankTracker(sessionCache);
+        sessionCache.setJankListener(jankListener);
+
+        sut.onTransitionStarted(DropInJankFrame.VAULT_MANAGER_ENTER);
+        long frameStartNanos = System.nanoTime();
+        sut.onTransitionEnded();
+        sut.onFrame(frameStartNanos, JANKY_FRAME_NANOS);
+
+        ArgumentCaptor<DropInJankFrame> captor = ArgumentCaptor.forClass(DropInJankFrame.class);
+        verify(jankListener).onJankyFrame(captor.capture());
+        assertEquals(DropInJankFrame.VAULT_MANAGER_ENTER, captor.getValue().getTransition());
+    }
+
+    @Test
+    public void onFrame_whenListenerIsSetAfterTrackerIsCreated_reportsFrame() {
+        BottomSheetJankTracker sut = new BottomSheetJankTracker(sessionCache);
+        sut.onFrame(System.nanoTime(), JANKY_FRAME_NANOS);
+
+        sessionCache.setJankListener(jankListener);
+        sut.onFrame(System.nanoTime(), JANKY_FRAME_NANOS);
+
+        verify(jankListener).onJankyFrame(any(DropInJankFrame.class));
+    }
+}
@@ -0,0 +1,92 @@
+package com.braintreepayments.api;
+
+import android.content.Context;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public class DeviceDataFutureUnitTest {
+
+    private static final long ONE_MINUTE = 60 * 1000;
+
+    private Context context;
+
+    @Before
+    public void beforeEach() {
+        context = ApplicationProvider.getApplicationContext();
+    }
+
+    @Test
+    public void join_withinTTL_reusesCollectedDeviceData() {
+        DataCollector dataCollector = new MockDataCollectorBuilder()
+                .collectDeviceDataSuccess("device data")
+                .build();
+        DataCollectorCallback callback = mock(DataCollectorCallback.class);
+
+        DeviceDataFuture sut = new DeviceDataFuture();
+        sut.join(context, dataCollector, ONE_MINUTE, mock(DataCollectorCallback.class));
+        sut.join(context, dataCollector, ONE_MINUTE, callback);
+
+        verify(callback).onResult("device data", null);
+        verify(dataCollector, times(1)).collectDeviceData(any(Context.class), any(DataCollectorCallback.class));
+    }
+
+    @Test
+    public void join_whenDeviceDataIsOlderThanTTL_collectsAgain() {
+        DataCollector dataCollector = new MockDataCollectorBuilder()
+                .collectDeviceDataSuccess("device data")
+                .build();
+
+        DeviceDataFuture sut = new DeviceDataFuture();
+        sut.join(context, dataCollector, 0, mock(DataCollectorCallback.class));
+        sut.join(context, dataCollector, 0, mock(DataCollectorCallback.class));
+
+        verify(dataCollector, times(2)).collectDeviceData(any(Context.class), any(DataCollectorCallback.class));
+    }
+
+    @Test
+    public void start_whenDeviceDataIsFresh_doesNotCollectAgain() {
+        DataCollector dataCollector = new MockDataCollectorBuilder()
+                .collectDeviceDataSuccess("device data")
+                .build();
+
+        DeviceDataFuture sut = new DeviceDataFuture();
+        sut.start(context, dataCollector, ONE_MINUTE);
+        sut.start(context, dataCollector, ONE_MINUTE);
+
+        verify(dataCollector, times(1)).collectDeviceData(any(Context.class), any(DataCollectorCallback.class));
+    }
+
+    @Test
+    public void cancel_dropsCallbacksOfOwnerAndKeepsCollecting() {
+        DataCollector dataCollector = mock(DataCollector.class);
+        Context otherContext = mock(Context.class);
+        DataCollectorCallback cancelledCallback = mock(DataCollectorCallback.class);
+        DataCollectorCallback callback = mock(DataCollectorCallback.class);
+
+        DeviceDataFuture sut = new DeviceDataFuture();
+        sut.join(context, dataCollector, ONE_MINUTE, cancelledCallback);
+        sut.join(otherContext, dataCollector, ONE_MINUTE, callback);
+        sut.cancel(context);
+
+        ArgumentCaptor<DataCollectorCallback> captor = ArgumentCaptor.forClass(DataCollectorCallback.class);
+        verify(dataCollector, times(1)).collectDeviceData(any(Context.class), captor.capture());
+        captor.getValue().onResult("device data", null);
+
+        verify(cancelledCallback, never()).onResult(anyString(), any(Exception.class));
+        verify(callback).onResult("device data", null);
+    }
+}
@@ -33,6 +33,7 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.robolectric.Shadows.shadowOf;
@@ -46,6 +47,7 @@ public class DropInActivityUnitTest {
 
     @Before
     public void beforeEach() {
+        DropInSessionCache.clearAll();
     }
 
     private void setupDropInActivity(String authorization, DropInClient dropInClient, DropInRequest dropInRequest, String sessionId) {
@@ -251,6 +253,171 @@ public class DropInActivityUnitTest {
 //        assertEquals("dropin3", mActivity.getDropInClient().getIntegrationType());
     }
 
+    @Test
+    public void onCreate_whenResultsWerePrefetched_setsResultsInViewModelWithoutFetching() throws JSONException {
+        List<DropInPaymentMethodType> supportedPaymentMethods = new ArrayList<>();
+        supportedPaymentMethods.add(DropInPaymentMethodType.PAYPAL);
+
+        List<PaymentMethodNonce> vaultedPaymentMethods = new ArrayList<>();
+        vaultedPaymentMethods.add(CardNonce.fromJSON(new JSONObject(Fixtures.VISA_CREDIT_CARD_RESPONSE)));
+
+        String authorization = Fixtures.TOKENIZATION_KEY;
+        DropInRequest dropInRequest = new DropInRequest();
+        DropInClient dropInClient = mock(DropInClient.class);
+        when(dropInClient.getCachedSupportedPaymentMethods()).thenReturn(supportedPaymentMethods);
+        when(dropInClient.getCachedVaultedPaymentMethods()).thenReturn(vaultedPaymentMethods);
+        setupDropInActivity(authorization, dropInClient, dropInRequest, "sessionId");
+        activityController.setup();
+
+        assertEquals(supportedPaymentMethods, activity.dropInViewModel.getSupportedPaymentMethods().getValue());
+        assertEquals(vaultedPaymentMethods, activity.dropInViewModel.getVaultedPaymentMethods().getValue());
+        verify(dropInClient, never()).getSupportedPaymentMethods(any(FragmentActivity.class), any(GetSupportedPaymentMethodsCallback.class));
+    }
+
+    @Test
+    public void onCreate_whenPrefetchedVaultedPaymentMethodsHaveExpired_setsLastKnownVaultedPaymentMethodsAsStale() throws JSONException {
+        List<PaymentMethodNonce> lastKnownVaultedPaymentMethods = new ArrayList<>();
+        lastKnownVaultedPaymentMethods.add(CardNonce.fromJSON(new JSONObject(Fixtures.VISA_CREDIT_CARD_RESPONSE)));
+
+        String authorization = Fixtures.TOKENIZATION_KEY;
+        DropInRequest dropInRequest = new DropInRequest();
+        DropInClient dropInClient = mock(DropInClient.class);
+        when(dropInClient.getCachedVaultedPaymentMethods()).thenReturn(null);
+        when(dropInClient.getLastKnownVaultedPaymentMethods()).thenReturn(lastKnownVaultedPaymentMethods);
+        setupDropInActivity(authorization, dropInClient, dropInRequest, "sessionId");
+        activity.clientTokenPresent = true;
+        activityController.setup();
+
+        assertEquals(lastKnownVaultedPaymentMethods, activity.dropInViewModel.getVaultedPaymentMethods().getValue());
+        assertTrue(activity.dropInViewModel.areVaultedPaymentMethodsStale());
+    }
+
+    @Test
+    public void onCreate_startsDeviceDataCollection() {
+        String authorization = Fixtures.TOKENIZATION_KEY;
+        DropInRequest dropInRequest = new DropInRequest();
+        DropInClient dropInClient = mock(DropInClient.class);
+        setupDropInActivity(authorization, dropInClient, dropInRequest, "sessionId");
+        activityController.setup();
+
+        verify(dropInClient).startDeviceDataCollection(activity);
+    }
+
+    @Test
+    public void onDestroy_whenFinishing_flushesAnalyticsEvents() {
+        String authorization = Fixtures.TOKENIZATION_KEY;
+        DropInRequest dropInRequest = new DropInRequest();
+        DropInClient dropInClient = mock(DropInClient.class);
+        setupDropInActivity(authorization, dropInClient, dropInRequest, "sessionId");
+        activityController.setup();
+
+        activity.finish();
+        activityController.pause().stop().destroy();
+
+        verify(dropInClient).flushAnalyticsEvents();
+    }
+
+    @Test
+    public void onDestroy_cancelsDeviceDataCallbacks() {
+        String authorization = Fixtures.TOKENIZATION_KEY;
+        DropInRequest dropInRequest = new DropInRequest();
+        DropInClient dropInClient = mock(DropInClient.class);
+        setupDropInActivity(authorization, dropInClient, dropInRequest, "sessionId");
+        activityController.setup();
+
+        activityController.pause().stop().destroy();
+
+        verify(dropInClient).cancelDeviceDataCallbacks(activity);
+    }
+
+    @Test
+    public void onDestroy_whenFinishing_releasesSessionCache() {
+        DropInSessionCache sessionCache = new DropInSessionCache("sessionId");
+        DropInSessionCache.register("sessionId", sessionCache);
+
+        String authorization = Fixtures.TOKENIZATION_KEY;
+        DropInRequest dropInRequest = new DropInRequest();
+        DropInClient dropInClient = mock(DropInClient.class);
+        setupDropInActivity(authorization, dropInClient, dropInRequest, "sessionId");
+        activityController.setup();
+
+        activity.finish();
+        activityController.pause().stop().destroy();
+
+        assertFalse(DropInSessionCache.isRegistered("sessionId"));
+    }
+
+    @Test
+    public void onDestroy_whenFinishing_invalidatesSupportedPaymentMethods() {
+        String authorization = Fixtures.TOKENIZATION_KEY;
+        DropInRequest dropInRequest = new DropInRequest();
+        DropInClient dropInClient = mock(DropInClient.class);
+        setupDropInActivity(authorization, dropInClient, dropInRequest, "sessionId");
+        activityController.setup();
+
+        activity.finish();
+        activityController.pause().stop().destroy();
+
+        verify(dropInClient).invalidateSupportedPaymentMethods();
+    }
+
+    @Test
+    public void supportedPaymentMethodsAreComputedAgainForTheNextLaunch() throws JSONException {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .authorization(Authorization.fromString(Fixtures.TOKENIZATION_KEY))
+                .configuration(Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY))
+                .build();
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient)
+                .googlePayClient(googlePayClient)
+                .dataCollector(mock(DataCollector.class));
+        DropInClient dropInClient = new DropInClient(params);
+
+        setupDropInActivity(Fixtures.TOKENIZATION_KEY, dropInClient, dropInRequest, "sessionId");
+        activityController.setup();
+        activity.finish();
+        activityController.pause().stop().destroy();
+
+        setupDropInActivity(Fixtures.TOKENIZATION_KEY, dropInClient, dropInRequest, "sessionId");
+        activityController.setup();
+
+        verify(braintreeClient, times(2)).getConfiguration(any(ConfigurationCallback.class));
+        // the Google Pay readiness answer of the first launch is still fresh
+        verify(googlePayClient, times(1)).isReadyToPay(any(FragmentActivity.class), any(GooglePayIsReadyToPayCallback.class));
+    }
+
+    @Test
+    public void supportedPaymentMethodsAreComputedOncePerLaunch() throws JSONException {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .authorization(Authorization.fromString(Fixtures.TOKENIZATION_KEY))
+                .configuration(Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY))
+                .build();
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient)
+                .googlePayClient(googlePayClient)
+                .dataCollector(mock(DataCollector.class));
+        DropInClient dropInClient = new DropInClient(params);
+
+        setupDropInActivity(Fixtures.TOKENIZATION_KEY, dropInClient, dropInRequest, "sessionId");
+        activityController.setup();
+        activity.dropInViewModel.setBottomSheetState(BottomSheetState.SHOWN);
+
+        verify(braintreeClient, times(1)).getConfiguration(any(ConfigurationCallback.class));
+        verify(googlePayClient, times(1)).isReadyToPay(any(FragmentActivity.class), any(GooglePayIsReadyToPayCallback.class));
+    }
+
     @Test
     public void sendsAnalyticsEventWhenShown() {
         String authorization = Fixtures.TOKENIZATION_KEY;
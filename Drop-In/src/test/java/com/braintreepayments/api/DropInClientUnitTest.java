@@ -1,6 +1,7 @@
 package com.braintreepayments.api;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -8,11 +9,14 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isNull;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import android.content.Context;
 import android.content.Intent;
 import android.net.Uri;
 
@@ -20,6 +24,7 @@ import androidx.fragment.app.FragmentActivity;
 
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -53,6 +58,15 @@ public class DropInClientUnitTest {
         ActivityController<FragmentActivity> activityController =
                 Robolectric.buildActivity(FragmentActivity.class);
         activity = activityController.get();
+
+        DropInSessionCache.clearAll();
+        DropInLatencyMetrics.reset();
+    }
+
+    @After
+    public void afterEach() {
+        DropInSessionCache.clearAll();
+        DropInLatencyMetrics.reset();
     }
 
     @Test
@@ -66,7 +80,134 @@ public class DropInClientUnitTest {
         DropInClient sut = new DropInClient(params);
         sut.getConfiguration(callback);
 
-        verify(braintreeClient).getConfiguration(callback);
+        ArgumentCaptor<ConfigurationCallback> captor = ArgumentCaptor.forClass(ConfigurationCallback.class);
+        verify(braintreeClient).getConfiguration(captor.capture());
+
+        Configuration configuration = mock(Configuration.class);
+        captor.getValue().onResult(configuration, null);
+        verify(callback).onResult(configuration, null);
+    }
+
+    @Test
+    public void getConfiguration_withTraceListener_reportsConfigurationFetchSpan() throws JSONException {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .sessionId("session-id")
+                .configuration(Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY))
+                .build();
+        DropInTraceListener traceListener = mock(DropInTraceListener.class);
+        DropInClientParams params = new DropInClientParams()
+                .braintreeClient(braintreeClient)
+                .traceListener(traceListener);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getConfiguration(mock(ConfigurationCallback.class));
+
+        ArgumentCaptor<DropInTraceSpan> captor = ArgumentCaptor.forClass(DropInTraceSpan.class);
+        verify(traceListener).onSpanStarted(captor.capture());
+        verify(traceListener).onSpanEnded(same(captor.getValue()));
+
+        DropInTraceSpan span = captor.getValue();
+        assertEquals(DropInTraceSpan.CONFIGURATION_FETCH, span.getName());
+        assertEquals("session-id", span.getSessionId());
+        assertTrue(span.getEndTimeNanos() >= span.getStartTimeNanos());
+        assertNull(span.getError());
+    }
+
+    @Test
+    public void getLatencySnapshots_includesCompletedOperations() throws JSONException {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configuration(Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY))
+                .build();
+        DropInClientParams params = new DropInClientParams()
+                .braintreeClient(braintreeClient);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getConfiguration(mock(ConfigurationCallback.class));
+        sut.getConfiguration(mock(ConfigurationCallback.class));
+
+        List<DropInLatencySnapshot> snapshots = sut.getLatencySnapshots();
+        assertEquals(1, snapshots.size());
+        assertEquals(DropInTraceSpan.CONFIGURATION_FETCH, snapshots.get(0).getOperation());
+        assertEquals(2, snapshots.get(0).getCount());
+
+        sut.resetLatencySnapshots();
+        assertTrue(sut.getLatencySnapshots().isEmpty());
+    }
+
+    @Test
+    public void getLatencySnapshots_excludesFailedOperations() {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configurationError(new Exception("configuration error"))
+                .build();
+        DropInClientParams params = new DropInClientParams()
+                .braintreeClient(braintreeClient);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getConfiguration(mock(ConfigurationCallback.class));
+
+        assertTrue(sut.getLatencySnapshots().isEmpty());
+    }
+
+    @Test
+    public void setTraceListener_receivesSpansFromClientsInTheSameSession() {
+        DropInSessionCache sessionCache = DropInSessionCache.forSession("session-id");
+        DropInTraceListener traceListener = mock(DropInTraceListener.class);
+
+        DropInClient merchantClient = new DropInClient(new DropInClientParams()
+                .braintreeClient(new MockBraintreeClientBuilder().build())
+                .sessionCache(sessionCache));
+        merchantClient.setTraceListener(traceListener);
+
+        DataCollector dataCollector = new MockDataCollectorBuilder()
+                .collectDeviceDataSuccess("device data")
+                .build();
+        DropInClient dropInActivityClient = new DropInClient(new DropInClientParams()
+                .braintreeClient(new MockBraintreeClientBuilder().build())
+                .dataCollector(dataCollector)
+                .sessionCache(DropInSessionCache.forSession("session-id")));
+        dropInActivityClient.collectDeviceData(activity, mock(DataCollectorCallback.class));
+
+        ArgumentCaptor<DropInTraceSpan> captor = ArgumentCaptor.forClass(DropInTraceSpan.class);
+        verify(traceListener).onSpanEnded(captor.capture());
+        assertEquals(DropInTraceSpan.DEVICE_DATA_COLLECTION, captor.getValue().getName());
+        assertEquals("session-id", captor.getValue().getSessionId());
+    }
+
+    @Test
+    public void setJankListener_setsListenerForSession() {
+        DropInJankListener jankListener = mock(DropInJankListener.class);
+
+        DropInClient sut = new DropInClient(new DropInClientParams()
+                .braintreeClient(new MockBraintreeClientBuilder().build())
+                .sessionCache(DropInSessionCache.forSession("session-id")));
+        sut.setJankListener(jankListener);
+        assertSame(jankListener, DropInSessionCache.forSession("session-id").getJankListener());
+
+        sut.setJankListener(null);
+        assertNull(DropInSessionCache.forSession("session-id").getJankListener());
+    }
+
+    @Test
+    public void tokenizeCard_whenTokenizationFails_reportsSpanWithError() {
+        CardClient cardClient = mock(CardClient.class);
+        DropInTraceListener traceListener = mock(DropInTraceListener.class);
+        DropInClientParams params = new DropInClientParams()
+                .cardClient(cardClient)
+                .traceListener(traceListener);
+
+        DropInClient sut = new DropInClient(params);
+        sut.tokenizeCard(new Card(), mock(CardTokenizeCallback.class));
+
+        ArgumentCaptor<CardTokenizeCallback> callbackCaptor = ArgumentCaptor.forClass(CardTokenizeCallback.class);
+        verify(cardClient).tokenize(any(Card.class), callbackCaptor.capture());
+
+        Exception error = new Exception("tokenization error");
+        callbackCaptor.getValue().onResult(null, error);
+
+        ArgumentCaptor<DropInTraceSpan> captor = ArgumentCaptor.forClass(DropInTraceSpan.class);
+        verify(traceListener).onSpanEnded(captor.capture());
+        assertEquals(DropInTraceSpan.CARD_TOKENIZATION, captor.getValue().getName());
+        assertSame(error, captor.getValue().getError());
     }
 
     @Test
@@ -84,17 +225,31 @@ public class DropInClientUnitTest {
     }
 
     @Test
-    public void sendAnalyticsEvent_forwardsInvocationToBraintreeClient() {
-        BraintreeClient braintreeClient = new MockBraintreeClientBuilder().build();
+    public void sendAnalyticsEvent_addsEventToAnalyticsEventBuffer() {
+        AnalyticsEventBuffer analyticsEventBuffer = mock(AnalyticsEventBuffer.class);
         DropInClientParams params = new DropInClientParams()
-                .braintreeClient(braintreeClient);
+                .braintreeClient(new MockBraintreeClientBuilder().build())
+                .analyticsEventBuffer(analyticsEventBuffer);
 
         String eventFragment = "event.fragment";
 
         DropInClient sut = new DropInClient(params);
         sut.sendAnalyticsEvent(eventFragment);
 
-        verify(braintreeClient).sendAnalyticsEvent(eventFragment);
+        verify(analyticsEventBuffer).add(eventFragment);
+    }
+
+    @Test
+    public void flushAnalyticsEvents_forwardsInvocationToAnalyticsEventBuffer() {
+        AnalyticsEventBuffer analyticsEventBuffer = mock(AnalyticsEventBuffer.class);
+        DropInClientParams params = new DropInClientParams()
+                .braintreeClient(new MockBraintreeClientBuilder().build())
+                .analyticsEventBuffer(analyticsEventBuffer);
+
+        DropInClient sut = new DropInClient(params);
+        sut.flushAnalyticsEvents();
+
+        verify(analyticsEventBuffer).flush();
     }
 
     @Test
@@ -108,7 +263,90 @@ public class DropInClientUnitTest {
         DropInClient sut = new DropInClient(params);
         sut.collectDeviceData(activity, callback);
 
-        verify(dataCollector).collectDeviceData(activity, callback);
+        ArgumentCaptor<DataCollectorCallback> captor = ArgumentCaptor.forClass(DataCollectorCallback.class);
+        verify(dataCollector).collectDeviceData(same(activity), captor.capture());
+
+        captor.getValue().onResult("device data", null);
+        verify(callback).onResult("device data", null);
+    }
+
+    @Test
+    public void collectDeviceData_whenCollectionWasStartedSpeculatively_joinsRunningCollection() {
+        DataCollector dataCollector = mock(DataCollector.class);
+        DropInClientParams params = new DropInClientParams()
+                .dataCollector(dataCollector);
+
+        DropInClient sut = new DropInClient(params);
+        sut.startDeviceDataCollection(activity);
+
+        DataCollectorCallback callback = mock(DataCollectorCallback.class);
+        sut.collectDeviceData(activity, callback);
+
+        ArgumentCaptor<DataCollectorCallback> captor = ArgumentCaptor.forClass(DataCollectorCallback.class);
+        verify(dataCollector, times(1)).collectDeviceData(same(activity), captor.capture());
+
+        captor.getValue().onResult("device data", null);
+        verify(callback).onResult("device data", null);
+    }
+
+    @Test
+    public void collectDeviceData_whenDeviceDataWasCollected_reusesDeviceData() {
+        DataCollector dataCollector = new MockDataCollectorBuilder()
+                .collectDeviceDataSuccess("device data")
+                .build();
+        DropInClientParams params = new DropInClientParams()
+                .dataCollector(dataCollector);
+
+        DropInClient sut = new DropInClient(params);
+        sut.startDeviceDataCollection(activity);
+
+        DataCollectorCallback callback = mock(DataCollectorCallback.class);
+        sut.collectDeviceData(activity, callback);
+
+        verify(callback).onResult("device data", null);
+        verify(dataCollector, times(1)).collectDeviceData(any(Context.class), any(DataCollectorCallback.class));
+    }
+
+    @Test
+    public void collectDeviceData_reusesDeviceDataCollectedByAnotherClientInTheSameSession() {
+        DataCollector dataCollector = new MockDataCollectorBuilder()
+                .collectDeviceDataSuccess("device data")
+                .build();
+        DropInSessionCache sessionCache = new DropInSessionCache();
+
+        DropInClient hostClient = new DropInClient(new DropInClientParams()
+                .sessionCache(sessionCache)
+                .dataCollector(dataCollector));
+        hostClient.collectDeviceData(activity, mock(DataCollectorCallback.class));
+
+        DropInClient sut = new DropInClient(new DropInClientParams()
+                .sessionCache(sessionCache)
+                .dataCollector(dataCollector));
+
+        DataCollectorCallback callback = mock(DataCollectorCallback.class);
+        sut.collectDeviceData(activity, callback);
+
+        verify(callback).onResult("device data", null);
+        verify(dataCollector, times(1)).collectDeviceData(any(Context.class), any(DataCollectorCallback.class));
+    }
+
+    @Test
+    public void collectDeviceData_whenCollectionFailed_collectsAgain() {
+        Exception error = new Exception("data collection error");
+        DataCollector dataCollector = new MockDataCollectorBuilder()
+                .collectDeviceDataError(error)
+                .build();
+        DropInClientParams params = new DropInClientParams()
+                .dataCollector(dataCollector);
+
+        DropInClient sut = new DropInClient(params);
+        sut.startDeviceDataCollection(activity);
+
+        DataCollectorCallback callback = mock(DataCollectorCallback.class);
+        sut.collectDeviceData(activity, callback);
+
+        verify(callback).onResult(null, error);
+        verify(dataCollector, times(2)).collectDeviceData(any(Context.class), any(DataCollectorCallback.class));
     }
 
     @Test
@@ -202,6 +440,207 @@ public class DropInClientUnitTest {
         verify(callback).onResult(null, configurationError);
     }
 
+    @Test
+    public void getSupportedPaymentMethods_whenCalledTwice_fetchesConfigurationAndGooglePayReadinessOnce() throws JSONException {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configuration(Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY))
+                .build();
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(new DropInRequest())
+                .braintreeClient(braintreeClient)
+                .googlePayClient(googlePayClient);
+
+        DropInClient sut = new DropInClient(params);
+        GetSupportedPaymentMethodsCallback firstCallback = mock(GetSupportedPaymentMethodsCallback.class);
+        GetSupportedPaymentMethodsCallback secondCallback = mock(GetSupportedPaymentMethodsCallback.class);
+
+        sut.getSupportedPaymentMethods(activity, firstCallback);
+        sut.getSupportedPaymentMethods(activity, secondCallback);
+
+        verify(braintreeClient, times(1)).getConfiguration(any(ConfigurationCallback.class));
+        verify(googlePayClient, times(1)).isReadyToPay(same(activity), any(GooglePayIsReadyToPayCallback.class));
+
+        verify(firstCallback).onResult(paymentMethodTypesCaptor.capture(), (Exception) isNull());
+        verify(secondCallback).onResult(same(paymentMethodTypesCaptor.getValue()), (Exception) isNull());
+    }
+
+    @Test
+    public void getSupportedPaymentMethods_whenFetchIsInFlight_sharesResultWithAllCallers() {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder().build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient);
+
+        DropInClient sut = new DropInClient(params);
+        GetSupportedPaymentMethodsCallback firstCallback = mock(GetSupportedPaymentMethodsCallback.class);
+        GetSupportedPaymentMethodsCallback secondCallback = mock(GetSupportedPaymentMethodsCallback.class);
+
+        sut.getSupportedPaymentMethods(activity, firstCallback);
+        sut.getSupportedPaymentMethods(activity, secondCallback);
+
+        ArgumentCaptor<ConfigurationCallback> captor = ArgumentCaptor.forClass(ConfigurationCallback.class);
+        verify(braintreeClient, times(1)).getConfiguration(captor.capture());
+
+        captor.getValue().onResult(mockConfiguration(true, false, false, false, false), null);
+
+        verify(firstCallback).onResult(paymentMethodTypesCaptor.capture(), (Exception) isNull());
+        verify(secondCallback).onResult(same(paymentMethodTypesCaptor.getValue()), (Exception) isNull());
+        assertEquals(DropInPaymentMethodType.PAYPAL, paymentMethodTypesCaptor.getValue().get(0));
+    }
+
+    @Test
+    public void getSupportedPaymentMethods_whenFetchIsInFlightForAnotherClientInTheSession_sharesResult() {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder().build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
+        DropInSessionCache sessionCache = new DropInSessionCache("session-id");
+        DropInClient merchantClient = new DropInClient(new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient)
+                .sessionCache(sessionCache));
+
+        BraintreeClient dropInActivityBraintreeClient = new MockBraintreeClientBuilder().build();
+        DropInClient dropInActivityClient = new DropInClient(new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(dropInActivityBraintreeClient)
+                .sessionCache(sessionCache));
+
+        GetSupportedPaymentMethodsCallback callback = mock(GetSupportedPaymentMethodsCallback.class);
+        merchantClient.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+        dropInActivityClient.getSupportedPaymentMethods(activity, callback);
+
+        verify(dropInActivityBraintreeClient, never()).getConfiguration(any(ConfigurationCallback.class));
+        ArgumentCaptor<ConfigurationCallback> captor = ArgumentCaptor.forClass(ConfigurationCallback.class);
+        verify(braintreeClient).getConfiguration(captor.capture());
+
+        captor.getValue().onResult(mockConfiguration(true, false, false, false, false), null);
+
+        verify(callback).onResult(paymentMethodTypesCaptor.capture(), (Exception) isNull());
+        assertEquals(DropInPaymentMethodType.PAYPAL, paymentMethodTypesCaptor.getValue().get(0));
+    }
+
+    @Test
+    public void getSupportedPaymentMethods_whenConfigurationFetchFails_doesNotCacheResult() {
+        Exception configurationError = new Exception("configuration error");
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configurationError(configurationError)
+                .build();
+
+        DropInClientParams params = new DropInClientParams()
+                .braintreeClient(braintreeClient);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+
+        verify(braintreeClient, times(2)).getConfiguration(any(ConfigurationCallback.class));
+    }
+
+    @Test
+    public void getSupportedPaymentMethods_whenGooglePayReadinessFails_doesNotCacheResult() throws JSONException {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPayError(new Exception("google pay error"))
+                .build();
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configuration(Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY))
+                .build();
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(new DropInRequest())
+                .braintreeClient(braintreeClient)
+                .googlePayClient(googlePayClient);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+
+        assertNull(sut.getCachedSupportedPaymentMethods());
+
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+
+        verify(googlePayClient, times(2)).isReadyToPay(same(activity), any(GooglePayIsReadyToPayCallback.class));
+    }
+
+    @Test
+    public void getSupportedPaymentMethods_whenGooglePayReadinessHasExpired_computesThemAgain() throws JSONException {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configuration(Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY))
+                .build();
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(new DropInRequest())
+                .braintreeClient(braintreeClient)
+                .googlePayClient(googlePayClient)
+                .googlePayReadinessTtlMillis(0);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+
+        assertNull(sut.getCachedSupportedPaymentMethods());
+
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+
+        verify(braintreeClient, times(2)).getConfiguration(any(ConfigurationCallback.class));
+        verify(googlePayClient, times(2)).isReadyToPay(same(activity), any(GooglePayIsReadyToPayCallback.class));
+    }
+
+    @Test
+    public void getSupportedPaymentMethods_whenGooglePayReadinessIsFresh_returnsCachedResult() throws JSONException {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configuration(Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY))
+                .build();
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(new DropInRequest())
+                .braintreeClient(braintreeClient)
+                .googlePayClient(googlePayClient);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+
+        verify(braintreeClient, times(1)).getConfiguration(any(ConfigurationCallback.class));
+        assertEquals(DropInPaymentMethodType.GOOGLE_PAYMENT, sut.getCachedSupportedPaymentMethods().get(0));
+    }
+
+    @Test
+    public void invalidateSupportedPaymentMethods_causesNextCallToFetchAgain() throws JSONException {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configuration(Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY))
+                .build();
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(new DropInRequest())
+                .braintreeClient(braintreeClient)
+                .googlePayClient(googlePayClient);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+        sut.invalidateSupportedPaymentMethods();
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+
+        verify(braintreeClient, times(2)).getConfiguration(any(ConfigurationCallback.class));
+        verify(googlePayClient, times(2)).isReadyToPay(same(activity), any(GooglePayIsReadyToPayCallback.class));
+    }
+
     @Test
     public void shouldRequestThreeDSecureVerification_whenNonceIsGooglePayNonNetworkTokenized_returnsTrue() throws JSONException {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
@@ -336,6 +775,39 @@ public class DropInClientUnitTest {
         verify(callback).onResult(false);
     }
 
+    @Test
+    public void shouldRequestThreeDSecureVerification_afterSupportedPaymentMethodsAreFetched_doesNotFetchConfigurationAgain() throws JSONException {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configuration(Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY_AND_THREE_D_SECURE))
+                .build();
+
+        ThreeDSecureRequest threeDSecureRequest = new ThreeDSecureRequest();
+        threeDSecureRequest.setAmount("1.00");
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+        dropInRequest.setThreeDSecureRequest(threeDSecureRequest);
+        dropInRequest.setRequestThreeDSecureVerification(true);
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient);
+
+        PaymentMethodNonce paymentMethodNonce = CardNonce.fromJSON(
+                new JSONObject(Fixtures.PAYMENT_METHODS_VISA_CREDIT_CARD));
+
+        DropInClient sut = new DropInClient(params);
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+
+        ShouldRequestThreeDSecureVerification callback = mock(ShouldRequestThreeDSecureVerification.class);
+        sut.shouldRequestThreeDSecureVerification(paymentMethodNonce, callback);
+        sut.shouldRequestThreeDSecureVerification(mock(PayPalAccountNonce.class), callback);
+
+        verify(callback).onResult(true);
+        verify(callback).onResult(false);
+        verify(braintreeClient, times(1)).getConfiguration(any(ConfigurationCallback.class));
+    }
+
     @Test
     public void fetchMostRecentPaymentMethod_callsBackWithErrorIfInvalidClientTokenWasUsed() {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
@@ -964,6 +1436,34 @@ public class DropInClientUnitTest {
         verify(payPalClient).tokenizePayPalAccount(same(activity), same(payPalRequest), same(callback));
     }
 
+    @Test
+    public void tokenizePayPalRequest_instantiatesPayPalClientOnFirstUse() {
+        PayPalCheckoutRequest payPalRequest = new PayPalCheckoutRequest("1.00");
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setPayPalRequest(payPalRequest);
+
+        final PayPalClient payPalClient = mock(PayPalClient.class);
+        Lazy<PayPalClient> lazyPayPalClient = new Lazy<PayPalClient>() {
+            @Override
+            PayPalClient initialize() {
+                return payPalClient;
+            }
+        };
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .payPalClient(lazyPayPalClient)
+                .braintreeClient(new MockBraintreeClientBuilder().build());
+
+        DropInClient sut = new DropInClient(params);
+        assertFalse(lazyPayPalClient.isInitialized());
+
+        PayPalFlowStartedCallback callback = mock(PayPalFlowStartedCallback.class);
+        sut.tokenizePayPalRequest(activity, callback);
+
+        assertTrue(lazyPayPalClient.isInitialized());
+        verify(payPalClient).tokenizePayPalAccount(same(activity), same(payPalRequest), same(callback));
+    }
+
     @Test
     public void tokenizePayPalAccount_withPayPalVaultRequest_tokenizesPayPalWithVaultRequest() {
         Configuration configuration = mockConfiguration(true, false, false, false, false);
@@ -1063,7 +1563,49 @@ public class DropInClientUnitTest {
         DeletePaymentMethodNonceCallback callback = mock(DeletePaymentMethodNonceCallback.class);
         sut.deletePaymentMethod(activity, cardNonce, callback);
 
-        verify(paymentMethodClient).deletePaymentMethod(same(activity), same(cardNonce), same(callback));
+        ArgumentCaptor<DeletePaymentMethodNonceCallback> captor =
+                ArgumentCaptor.forClass(DeletePaymentMethodNonceCallback.class);
+        verify(paymentMethodClient).deletePaymentMethod(same(activity), same(cardNonce), captor.capture());
+
+        captor.getValue().onResult(cardNonce, null);
+        verify(callback).onResult(cardNonce, null);
+    }
+
+    @Test
+    public void deletePaymentMethod_onSuccess_removesPaymentMethodFromVaultCache() {
+        PaymentMethodNonce deletedNonce = mock(CardNonce.class);
+        when(deletedNonce.getString()).thenReturn("deleted-nonce");
+        PaymentMethodNonce remainingNonce = mock(CardNonce.class);
+        when(remainingNonce.getString()).thenReturn("remaining-nonce");
+
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .authorization(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN))
+                .build();
+        PaymentMethodClient paymentMethodClient = new MockPaymentMethodClientBuilder()
+                .getPaymentMethodNoncesSuccess(Arrays.asList(deletedNonce, remainingNonce))
+                .build();
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(new DropInRequest())
+                .paymentMethodClient(paymentMethodClient)
+                .braintreeClient(braintreeClient);
+        DropInClient sut = new DropInClient(params);
+
+        sut.fetchMostRecentPaymentMethod(activity, mock(FetchMostRecentPaymentMethodCallback.class));
+        sut.deletePaymentMethod(activity, deletedNonce, mock(DeletePaymentMethodNonceCallback.class));
+
+        ArgumentCaptor<DeletePaymentMethodNonceCallback> deleteCaptor =
+                ArgumentCaptor.forClass(DeletePaymentMethodNonceCallback.class);
+        verify(paymentMethodClient).deletePaymentMethod(same(activity), same(deletedNonce), deleteCaptor.capture());
+        deleteCaptor.getValue().onResult(deletedNonce, null);
+
+        FetchMostRecentPaymentMethodCallback callback = mock(FetchMostRecentPaymentMethodCallback.class);
+        sut.fetchMostRecentPaymentMethod(activity, callback);
+
+        ArgumentCaptor<DropInResult> resultCaptor = ArgumentCaptor.forClass(DropInResult.class);
+        verify(callback).onResult(resultCaptor.capture(), (Exception) isNull());
+        assertSame(remainingNonce, resultCaptor.getValue().getPaymentMethodNonce());
+        verify(paymentMethodClient, times(1)).getPaymentMethodNonces(any(GetPaymentMethodNoncesCallback.class));
     }
 
     @Test
@@ -1078,7 +1620,40 @@ public class DropInClientUnitTest {
         DropInClient sut = new DropInClient(params);
         sut.tokenizeCard(card, callback);
 
-        verify(cardClient).tokenize(card, callback);
+        ArgumentCaptor<CardTokenizeCallback> captor = ArgumentCaptor.forClass(CardTokenizeCallback.class);
+        verify(cardClient).tokenize(same(card), captor.capture());
+
+        CardNonce cardNonce = mock(CardNonce.class);
+        captor.getValue().onResult(cardNonce, null);
+        verify(callback).onResult(cardNonce, null);
+    }
+
+    @Test
+    public void tokenizeCard_onSuccess_invalidatesVaultCache() {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .authorization(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN))
+                .build();
+        PaymentMethodClient paymentMethodClient = new MockPaymentMethodClientBuilder()
+                .getPaymentMethodNoncesSuccess(new ArrayList<PaymentMethodNonce>())
+                .build();
+        CardClient cardClient = mock(CardClient.class);
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(new DropInRequest())
+                .paymentMethodClient(paymentMethodClient)
+                .cardClient(cardClient)
+                .braintreeClient(braintreeClient);
+        DropInClient sut = new DropInClient(params);
+
+        sut.fetchMostRecentPaymentMethod(activity, mock(FetchMostRecentPaymentMethodCallback.class));
+        sut.tokenizeCard(new Card(), mock(CardTokenizeCallback.class));
+
+        ArgumentCaptor<CardTokenizeCallback> captor = ArgumentCaptor.forClass(CardTokenizeCallback.class);
+        verify(cardClient).tokenize(any(Card.class), captor.capture());
+        captor.getValue().onResult(mock(CardNonce.class), null);
+
+        sut.fetchMostRecentPaymentMethod(activity, mock(FetchMostRecentPaymentMethodCallback.class));
+        verify(paymentMethodClient, times(2)).getPaymentMethodNonces(any(GetPaymentMethodNoncesCallback.class));
     }
 
     @Test
@@ -1324,65 +1899,280 @@ public class DropInClientUnitTest {
 
         DropInRequest dropInRequest = new DropInRequest();
 
-        DataCollector dataCollector = mock(DataCollector.class);
+        DataCollector dataCollector = mock(DataCollector.class);
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder().build();
+
+        DropInClientParams params = new DropInClientParams()
+                .braintreeClient(braintreeClient)
+                .dropInRequest(dropInRequest)
+                .dataCollector(dataCollector)
+                .threeDSecureClient(threeDSecureClient);
+
+        Intent intent = new Intent();
+        DropInResultCallback callback = mock(DropInResultCallback.class);
+
+        DropInClient sut = new DropInClient(params);
+        sut.handleThreeDSecureActivityResult(activity, 123, intent, callback);
+
+        verify(callback).onResult(null, activityResultError);
+    }
+
+    @Test
+    public void launchDropInForResult_launchesDropInActivityWithIntentExtras() {
+        Authorization authorization = mock(Authorization.class);
+        when(authorization.toString()).thenReturn("authorization");
+
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .sessionId("session-id")
+                .authorization(authorization)
+                .build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setVaultManagerEnabled(true);
+
+        DropInClientParams params = new DropInClientParams()
+                .braintreeClient(braintreeClient)
+                .dropInRequest(dropInRequest);
+
+        DropInClient sut = new DropInClient(params);
+
+        FragmentActivity activity = mock(FragmentActivity.class);
+        sut.launchDropInForResult(activity, 123);
+
+        ArgumentCaptor<Intent> captor = ArgumentCaptor.forClass(Intent.class);
+        verify(activity).startActivityForResult(captor.capture(), eq(123));
+
+        Intent intent = captor.getValue();
+        assertEquals("session-id", intent.getStringExtra(DropInClient.EXTRA_SESSION_ID));
+        assertEquals("authorization", intent.getStringExtra(DropInClient.EXTRA_AUTHORIZATION));
+
+        DropInRequest dropInRequestExtra = intent.getParcelableExtra(DropInClient.EXTRA_CHECKOUT_REQUEST);
+        assertTrue(dropInRequestExtra.isVaultManagerEnabled());
+    }
+
+    @Test
+    public void launchDropInForResult_startsLaunchSpansForSession() {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .sessionId("session-id")
+                .authorization(mock(Authorization.class))
+                .build();
+
+        DropInClientParams params = new DropInClientParams()
+                .braintreeClient(braintreeClient)
+                .dropInRequest(new DropInRequest());
+
+        DropInClient sut = new DropInClient(params);
+        sut.launchDropInForResult(mock(FragmentActivity.class), 123);
+
+        DropInLaunchTrace launchTrace = DropInSessionCache.forSession("session-id").getLaunchTrace();
+        assertTrue(launchTrace.isPending(DropInTraceSpan.LAUNCH_TO_FIRST_FRAME));
+        assertTrue(launchTrace.isPending(DropInTraceSpan.LAUNCH_TO_BOTTOM_SHEET_SHOWN));
+        assertTrue(launchTrace.isPending(DropInTraceSpan.LAUNCH_TO_PAYMENT_METHODS_SHOWN));
+    }
+
+    @Test
+    public void launchDropInForResult_whenLaunchedTwice_sharesPrefetchedResultsWithEachLaunch() {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .sessionId("session-id")
+                .authorization(Authorization.fromString(Fixtures.TOKENIZATION_KEY))
+                .configuration(mockConfiguration(true, false, true, false, false))
+                .build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient)
+                .sessionCache(new DropInSessionCache("session-id"));
+
+        DropInClient sut = new DropInClient(params);
+        sut.prefetch(activity);
+        assertFalse(DropInSessionCache.isRegistered("session-id"));
+
+        sut.launchDropInForResult(mock(FragmentActivity.class), 123);
+        List<DropInPaymentMethodType> firstLaunchPaymentMethods =
+                DropInSessionCache.forSession("session-id").getSupportedPaymentMethods();
+        assertEquals(2, firstLaunchPaymentMethods.size());
+
+        // the first Drop-in activity finishes
+        DropInSessionCache.release("session-id");
+        assertFalse(DropInSessionCache.isRegistered("session-id"));
+
+        sut.launchDropInForResult(mock(FragmentActivity.class), 123);
+        assertSame(firstLaunchPaymentMethods,
+                DropInSessionCache.forSession("session-id").getSupportedPaymentMethods());
+    }
+
+    @Test
+    public void launchDropInForResult_whenLaunchedTwice_reportsLaunchSpansOfEachLaunchToTraceListener() {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .sessionId("session-id")
+                .authorization(mock(Authorization.class))
+                .build();
+        DropInTraceListener traceListener = mock(DropInTraceListener.class);
+
+        DropInClientParams params = new DropInClientParams()
+                .braintreeClient(braintreeClient)
+                .dropInRequest(new DropInRequest())
+                .sessionCache(new DropInSessionCache("session-id"))
+                .traceListener(traceListener);
+
+        DropInClient sut = new DropInClient(params);
+        sut.launchDropInForResult(mock(FragmentActivity.class), 123);
+        DropInSessionCache.forSession("session-id").getLaunchTrace().end(DropInTraceSpan.LAUNCH_TO_FIRST_FRAME);
+
+        // the first Drop-in activity finishes
+        DropInSessionCache.release("session-id");
+
+        sut.launchDropInForResult(mock(FragmentActivity.class), 123);
+        DropInSessionCache.forSession("session-id").getLaunchTrace().end(DropInTraceSpan.LAUNCH_TO_FIRST_FRAME);
+
+        ArgumentCaptor<DropInTraceSpan> captor = ArgumentCaptor.forClass(DropInTraceSpan.class);
+        verify(traceListener, atLeastOnce()).onSpanEnded(captor.capture());
+        int firstFrameSpans = 0;
+        for (DropInTraceSpan span : captor.getAllValues()) {
+            if (DropInTraceSpan.LAUNCH_TO_FIRST_FRAME.equals(span.getName()) && span.getError() == null) {
+                firstFrameSpans++;
+            }
+        }
+        assertEquals(2, firstFrameSpans);
+    }
+
+    @Test
+    public void getVaultedPaymentMethods_forwardsConfigurationFetchError() {
+        Exception configurationError = new Exception("configuration error");
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configurationError(configurationError)
+                .build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .paymentMethodClient(mock(PaymentMethodClient.class))
+                .braintreeClient(braintreeClient);
+
+        GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getVaultedPaymentMethods(activity, callback);
+
+        verify(callback).onResult(null, configurationError);
+    }
+
+    @Test
+    public void getVaultedPaymentMethods_forwardsPaymentMethodClientError() {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configuration(mockConfiguration(true, true, true, true, true))
+                .build();
+
+        Exception paymentMethodClientError = new Exception("payment method client error");
+        PaymentMethodClient paymentMethodClient = new MockPaymentMethodClientBuilder()
+                .getPaymentMethodNoncesError(paymentMethodClientError)
+                .build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .paymentMethodClient(paymentMethodClient)
+                .braintreeClient(braintreeClient);
+
+        GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getVaultedPaymentMethods(activity, callback);
+
+        verify(callback).onResult(null, paymentMethodClientError);
+    }
+
+    @Test
+    public void getVaultedPaymentMethods_fetchesPaymentMethodsAndGooglePayReadinessWithoutWaitingForConfiguration() {
+        // configuration callback is never invoked
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder().build();
+        PaymentMethodClient paymentMethodClient = mock(PaymentMethodClient.class);
+        GooglePayClient googlePayClient = mock(GooglePayClient.class);
 
         DropInClientParams params = new DropInClientParams()
-                .braintreeClient(braintreeClient)
-                .dropInRequest(dropInRequest)
-                .dataCollector(dataCollector)
-                .threeDSecureClient(threeDSecureClient);
+                .dropInRequest(new DropInRequest())
+                .googlePayClient(googlePayClient)
+                .paymentMethodClient(paymentMethodClient)
+                .braintreeClient(braintreeClient);
 
-        Intent intent = new Intent();
-        DropInResultCallback callback = mock(DropInResultCallback.class);
+        GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
 
         DropInClient sut = new DropInClient(params);
-        sut.handleThreeDSecureActivityResult(activity, 123, intent, callback);
+        sut.getVaultedPaymentMethods(activity, callback);
 
-        verify(callback).onResult(null, activityResultError);
+        verify(paymentMethodClient).getPaymentMethodNonces(any(GetPaymentMethodNoncesCallback.class));
+        verify(googlePayClient).isReadyToPay(same(activity), any(GooglePayIsReadyToPayCallback.class));
+        verify(callback, never()).onResult(any(List.class), any(Exception.class));
     }
 
     @Test
-    public void launchDropInForResult_launchesDropInActivityWithIntentExtras() {
-        Authorization authorization = mock(Authorization.class);
-        when(authorization.toString()).thenReturn("authorization");
-
+    public void getVaultedPaymentMethods_annotatesThreeDSecureEligibilityOfEachPaymentMethod() throws JSONException {
+        Configuration configuration = mockConfiguration(true, true, true, true, true);
+        when(configuration.isThreeDSecureEnabled()).thenReturn(true);
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
-                .sessionId("session-id")
-                .authorization(authorization)
+                .configuration(configuration)
+                .build();
+
+        PaymentMethodNonce cardNonce = CardNonce.fromJSON(
+                new JSONObject(Fixtures.PAYMENT_METHODS_VISA_CREDIT_CARD));
+
+        PaymentMethodClient paymentMethodClient = new MockPaymentMethodClientBuilder()
+                .getPaymentMethodNoncesSuccess(Collections.singletonList(cardNonce))
                 .build();
 
+        ThreeDSecureRequest threeDSecureRequest = new ThreeDSecureRequest();
+        threeDSecureRequest.setAmount("1.00");
+
         DropInRequest dropInRequest = new DropInRequest();
-        dropInRequest.setVaultManagerEnabled(true);
+        dropInRequest.setGooglePayDisabled(true);
+        dropInRequest.setThreeDSecureRequest(threeDSecureRequest);
+        dropInRequest.setRequestThreeDSecureVerification(true);
 
+        DropInSessionCache sessionCache = new DropInSessionCache();
         DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .paymentMethodClient(paymentMethodClient)
                 .braintreeClient(braintreeClient)
-                .dropInRequest(dropInRequest);
+                .sessionCache(sessionCache);
 
         DropInClient sut = new DropInClient(params);
+        sut.getVaultedPaymentMethods(activity, mock(GetPaymentMethodNoncesCallback.class));
 
-        FragmentActivity activity = mock(FragmentActivity.class);
-        sut.launchDropInForResult(activity, 123);
-
-        ArgumentCaptor<Intent> captor = ArgumentCaptor.forClass(Intent.class);
-        verify(activity).startActivityForResult(captor.capture(), eq(123));
+        assertTrue(sessionCache.getThreeDSecureEligibility(cardNonce));
 
-        Intent intent = captor.getValue();
-        assertEquals("session-id", intent.getStringExtra(DropInClient.EXTRA_SESSION_ID));
-        assertEquals("authorization", intent.getStringExtra(DropInClient.EXTRA_AUTHORIZATION));
+        ShouldRequestThreeDSecureVerification callback = mock(ShouldRequestThreeDSecureVerification.class);
+        sut.shouldRequestThreeDSecureVerification(cardNonce, callback);
 
-        DropInRequest dropInRequestExtra = intent.getParcelableExtra(DropInClient.EXTRA_CHECKOUT_REQUEST);
-        assertTrue(dropInRequestExtra.isVaultManagerEnabled());
+        verify(callback).onResult(true);
+        verify(braintreeClient, times(1)).getConfiguration(any(ConfigurationCallback.class));
     }
 
     @Test
-    public void getVaultedPaymentMethods_forwardsConfigurationFetchError() {
-        Exception configurationError = new Exception("configuration error");
+    public void getVaultedPaymentMethods_whenGooglePayDisabled_callbackPaymentMethodClientResult() throws JSONException {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
-                .configurationError(configurationError)
+                .configuration(mockConfiguration(true, true, true, true, true))
+                .build();
+
+        PaymentMethodNonce cardNonce = CardNonce.fromJSON(
+                new JSONObject(Fixtures.PAYMENT_METHODS_VISA_CREDIT_CARD));
+
+        PaymentMethodClient paymentMethodClient = new MockPaymentMethodClientBuilder()
+                .getPaymentMethodNoncesSuccess(Collections.singletonList(cardNonce))
                 .build();
 
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
         DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .paymentMethodClient(paymentMethodClient)
                 .braintreeClient(braintreeClient);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
@@ -1390,41 +2180,55 @@ public class DropInClientUnitTest {
         DropInClient sut = new DropInClient(params);
         sut.getVaultedPaymentMethods(activity, callback);
 
-        verify(callback).onResult(null, configurationError);
+        verify(callback).onResult(paymentMethodNoncesCaptor.capture(), (Exception) isNull());
+
+        List<PaymentMethodNonce> paymentMethodNonces = paymentMethodNoncesCaptor.getValue();
+        assertEquals(1, paymentMethodNonces.size());
+        assertSame(cardNonce, paymentMethodNonces.get(0));
     }
 
     @Test
-    public void getVaultedPaymentMethods_forwardsPaymentMethodClientError() {
+    public void getVaultedPaymentMethods_whenCalledTwice_fetchesPaymentMethodsOnce() throws JSONException {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .authorization(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN))
                 .configuration(mockConfiguration(true, true, true, true, true))
                 .build();
 
-        Exception paymentMethodClientError = new Exception("payment method client error");
+        PaymentMethodNonce cardNonce = CardNonce.fromJSON(
+                new JSONObject(Fixtures.PAYMENT_METHODS_VISA_CREDIT_CARD));
+
         PaymentMethodClient paymentMethodClient = new MockPaymentMethodClientBuilder()
-                .getPaymentMethodNoncesError(paymentMethodClientError)
+                .getPaymentMethodNoncesSuccess(Collections.singletonList(cardNonce))
                 .build();
 
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
         DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
                 .paymentMethodClient(paymentMethodClient)
                 .braintreeClient(braintreeClient);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
 
         DropInClient sut = new DropInClient(params);
+        sut.getVaultedPaymentMethods(activity, mock(GetPaymentMethodNoncesCallback.class));
         sut.getVaultedPaymentMethods(activity, callback);
 
-        verify(callback).onResult(null, paymentMethodClientError);
+        verify(callback).onResult(paymentMethodNoncesCaptor.capture(), (Exception) isNull());
+        assertSame(cardNonce, paymentMethodNoncesCaptor.getValue().get(0));
+        verify(paymentMethodClient, times(1)).getPaymentMethodNonces(any(GetPaymentMethodNoncesCallback.class));
     }
 
     @Test
-    public void getVaultedPaymentMethods_whenGooglePayDisabled_callbackPaymentMethodClientResult() throws JSONException {
+    public void getLastKnownVaultedPaymentMethods_returnsVaultedPaymentMethodsFromPreviousSession() throws JSONException {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .authorization(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN))
                 .configuration(mockConfiguration(true, true, true, true, true))
                 .build();
 
         PaymentMethodNonce cardNonce = CardNonce.fromJSON(
                 new JSONObject(Fixtures.PAYMENT_METHODS_VISA_CREDIT_CARD));
-
         PaymentMethodClient paymentMethodClient = new MockPaymentMethodClientBuilder()
                 .getPaymentMethodNoncesSuccess(Collections.singletonList(cardNonce))
                 .build();
@@ -1432,21 +2236,19 @@ public class DropInClientUnitTest {
         DropInRequest dropInRequest = new DropInRequest();
         dropInRequest.setGooglePayDisabled(true);
 
-        DropInClientParams params = new DropInClientParams()
+        DropInClient previousSession = new DropInClient(new DropInClientParams()
                 .dropInRequest(dropInRequest)
                 .paymentMethodClient(paymentMethodClient)
-                .braintreeClient(braintreeClient);
-
-        GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
-
-        DropInClient sut = new DropInClient(params);
-        sut.getVaultedPaymentMethods(activity, callback);
+                .braintreeClient(braintreeClient));
+        previousSession.getVaultedPaymentMethods(activity, mock(GetPaymentMethodNoncesCallback.class));
 
-        verify(callback).onResult(paymentMethodNoncesCaptor.capture(), (Exception) isNull());
+        DropInClient sut = new DropInClient(new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient));
 
-        List<PaymentMethodNonce> paymentMethodNonces = paymentMethodNoncesCaptor.getValue();
-        assertEquals(1, paymentMethodNonces.size());
-        assertSame(cardNonce, paymentMethodNonces.get(0));
+        List<PaymentMethodNonce> lastKnownVaultedPaymentMethods = sut.getLastKnownVaultedPaymentMethods();
+        assertEquals(1, lastKnownVaultedPaymentMethods.size());
+        assertSame(cardNonce, lastKnownVaultedPaymentMethods.get(0));
     }
 
     @Test
@@ -1520,6 +2322,56 @@ public class DropInClientUnitTest {
         assertEquals(0, paymentMethodNonces.size());
     }
 
+    @Test
+    public void getVaultedPaymentMethods_afterGetSupportedPaymentMethods_reusesGooglePayReadiness() throws JSONException {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configuration(mockConfiguration(true, true, true, true, true))
+                .build();
+
+        PaymentMethodClient paymentMethodClient = new MockPaymentMethodClientBuilder()
+                .getPaymentMethodNoncesSuccess(new ArrayList<PaymentMethodNonce>())
+                .build();
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(new DropInRequest())
+                .googlePayClient(googlePayClient)
+                .paymentMethodClient(paymentMethodClient)
+                .braintreeClient(braintreeClient);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+        sut.getVaultedPaymentMethods(activity, mock(GetPaymentMethodNoncesCallback.class));
+
+        verify(googlePayClient, times(1)).isReadyToPay(same(activity), any(GooglePayIsReadyToPayCallback.class));
+    }
+
+    @Test
+    public void invalidateGooglePayReadiness_causesNextCallToCheckReadinessAgain() throws JSONException {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .configuration(mockConfiguration(true, true, true, true, true))
+                .build();
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(new DropInRequest())
+                .googlePayClient(googlePayClient)
+                .braintreeClient(braintreeClient);
+
+        DropInClient sut = new DropInClient(params);
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+        sut.invalidateGooglePayReadiness();
+        sut.getSupportedPaymentMethods(activity, mock(GetSupportedPaymentMethodsCallback.class));
+
+        verify(googlePayClient, times(2)).isReadyToPay(same(activity), any(GooglePayIsReadyToPayCallback.class));
+    }
+
     @Test
     public void onActivityResult_whenResultCodeVenmo_handlesVenmoResult() {
         VenmoClient venmoClient = mock(VenmoClient.class);
@@ -1677,6 +2529,153 @@ public class DropInClientUnitTest {
         verify(callback).onResult((DropInResult) isNull(), same(error));
     }
 
+    @Test
+    public void prefetch_storesSupportedPaymentMethodsAndCardTypesInSessionCache() {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .authorization(Authorization.fromString(Fixtures.TOKENIZATION_KEY))
+                .configuration(mockConfiguration(true, false, true, false, false))
+                .build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
+        DropInSessionCache sessionCache = new DropInSessionCache();
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient)
+                .sessionCache(sessionCache);
+
+        DropInClient sut = new DropInClient(params);
+        sut.prefetch(activity);
+
+        List<DropInPaymentMethodType> supportedPaymentMethods = sessionCache.getSupportedPaymentMethods();
+        assertEquals(2, supportedPaymentMethods.size());
+        assertEquals(DropInPaymentMethodType.PAYPAL, supportedPaymentMethods.get(0));
+        assertEquals(DropInPaymentMethodType.UNKNOWN, supportedPaymentMethods.get(1));
+
+        List<String> supportedCardTypes = sessionCache.getSupportedCardTypes();
+        assertEquals(1, supportedCardTypes.size());
+        assertEquals(DropInPaymentMethodType.VISA.getCanonicalName(), supportedCardTypes.get(0));
+    }
+
+    @Test
+    public void prefetch_withClientToken_storesVaultedPaymentMethodsInSessionCache() throws JSONException {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .authorization(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN))
+                .configuration(mockConfiguration(true, true, true, true, true))
+                .build();
+
+        PaymentMethodNonce cardNonce = CardNonce.fromJSON(
+                new JSONObject(Fixtures.PAYMENT_METHODS_VISA_CREDIT_CARD));
+        PaymentMethodClient paymentMethodClient = new MockPaymentMethodClientBuilder()
+                .getPaymentMethodNoncesSuccess(Collections.singletonList(cardNonce))
+                .build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
+        DropInSessionCache sessionCache = new DropInSessionCache();
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient)
+                .paymentMethodClient(paymentMethodClient)
+                .sessionCache(sessionCache);
+
+        DropInClient sut = new DropInClient(params);
+        sut.prefetch(activity);
+
+        List<PaymentMethodNonce> vaultedPaymentMethods = sessionCache.getVaultedPaymentMethods();
+        assertEquals(1, vaultedPaymentMethods.size());
+        assertSame(cardNonce, vaultedPaymentMethods.get(0));
+    }
+
+    @Test
+    public void getCachedVaultedPaymentMethods_afterPrefetch_returnsPrefetchedVaultedPaymentMethods() throws JSONException {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .authorization(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN))
+                .configuration(mockConfiguration(true, true, true, true, true))
+                .build();
+
+        PaymentMethodNonce cardNonce = CardNonce.fromJSON(
+                new JSONObject(Fixtures.PAYMENT_METHODS_VISA_CREDIT_CARD));
+        PaymentMethodClient paymentMethodClient = new MockPaymentMethodClientBuilder()
+                .getPaymentMethodNoncesSuccess(Collections.singletonList(cardNonce))
+                .build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient)
+                .paymentMethodClient(paymentMethodClient)
+                .sessionCache(new DropInSessionCache());
+
+        DropInClient sut = new DropInClient(params);
+        sut.prefetch(activity);
+
+        List<PaymentMethodNonce> vaultedPaymentMethods = sut.getCachedVaultedPaymentMethods();
+        assertEquals(1, vaultedPaymentMethods.size());
+        assertSame(cardNonce, vaultedPaymentMethods.get(0));
+    }
+
+    @Test
+    public void getCachedVaultedPaymentMethods_whenPrefetchedVaultedPaymentMethodsHaveExpired_returnsNull() throws JSONException {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .authorization(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN))
+                .configuration(mockConfiguration(true, true, true, true, true))
+                .build();
+
+        PaymentMethodNonce cardNonce = CardNonce.fromJSON(
+                new JSONObject(Fixtures.PAYMENT_METHODS_VISA_CREDIT_CARD));
+        PaymentMethodClient paymentMethodClient = new MockPaymentMethodClientBuilder()
+                .getPaymentMethodNoncesSuccess(Collections.singletonList(cardNonce))
+                .build();
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
+        DropInSessionCache sessionCache = new DropInSessionCache();
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient)
+                .paymentMethodClient(paymentMethodClient)
+                .sessionCache(sessionCache)
+                .vaultedPaymentMethodsTtlMillis(0);
+
+        DropInClient sut = new DropInClient(params);
+        sut.prefetch(activity);
+
+        assertNull(sut.getCachedVaultedPaymentMethods());
+        assertNull(sessionCache.getVaultedPaymentMethods());
+    }
+
+    @Test
+    public void prefetch_withTokenizationKey_doesNotFetchVaultedPaymentMethods() {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .authorization(Authorization.fromString(Fixtures.TOKENIZATION_KEY))
+                .configuration(mockConfiguration(true, true, true, true, true))
+                .build();
+
+        PaymentMethodClient paymentMethodClient = mock(PaymentMethodClient.class);
+
+        DropInRequest dropInRequest = new DropInRequest();
+        dropInRequest.setGooglePayDisabled(true);
+
+        DropInSessionCache sessionCache = new DropInSessionCache();
+        DropInClientParams params = new DropInClientParams()
+                .dropInRequest(dropInRequest)
+                .braintreeClient(braintreeClient)
+                .paymentMethodClient(paymentMethodClient)
+                .sessionCache(sessionCache);
+
+        DropInClient sut = new DropInClient(params);
+        sut.prefetch(activity);
+
+        verify(paymentMethodClient, never()).getPaymentMethodNonces(any(GetPaymentMethodNoncesCallback.class));
+        assertNull(sessionCache.getVaultedPaymentMethods());
+    }
+
     private Configuration mockConfiguration(boolean paypalEnabled, boolean venmoEnabled,
                                             boolean cardEnabled, boolean googlePayEnabled, boolean unionPayEnabled) {
         Configuration configuration = mock(Configuration.class);
@@ -0,0 +1,86 @@
+package com.braintreepayments.api;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public class DropInLaunchTraceUnitTest {
+
+    private DropInTraceListener listener;
+    private DropInLaunchTrace sut;
+
+    @Before
+    public void beforeEach() {
+        listener = mock(DropInTraceListener.class);
+        DropInTracer tracer = new DropInTracer();
+        tracer.setListener(listener);
+        sut = new DropInLaunchTrace(tracer);
+    }
+
+    @Test
+    public void start_startsAllLaunchSpansForSession() {
+        sut.start("session-id");
+
+        ArgumentCaptor<DropInTraceSpan> captor = ArgumentCaptor.forClass(DropInTraceSpan.class);
+        verify(listener, times(3)).onSpanStarted(captor.capture());
+
+        List<DropInTraceSpan> spans = captor.getAllValues();
+        assertEquals(DropInTraceSpan.LAUNCH_TO_FIRST_FRAME, spans.get(0).getName());
+        assertEquals(DropInTraceSpan.LAUNCH_TO_BOTTOM_SHEET_SHOWN, spans.get(1).getName());
+        assertEquals(DropInTraceSpan.LAUNCH_TO_PAYMENT_METHODS_SHOWN, spans.get(2).getName());
+        assertEquals("session-id", spans.get(0).getSessionId());
+    }
+
+    @Test
+    public void end_endsPendingSpanOnce() {
+        sut.start("session-id");
+
+        sut.end(DropInTraceSpan.LAUNCH_TO_FIRST_FRAME);
+        sut.end(DropInTraceSpan.LAUNCH_TO_FIRST_FRAME);
+
+        ArgumentCaptor<DropInTraceSpan> captor = ArgumentCaptor.forClass(DropInTraceSpan.class);
+        verify(listener).onSpanEnded(captor.capture());
+        assertEquals(DropInTraceSpan.LAUNCH_TO_FIRST_FRAME, captor.getValue().getName());
+        assertNull(captor.getValue().getError());
+        assertFalse(sut.isPending(DropInTraceSpan.LAUNCH_TO_FIRST_FRAME));
+        assertTrue(sut.isPending(DropInTraceSpan.LAUNCH_TO_BOTTOM_SHEET_SHOWN));
+    }
+
+    @Test
+    public void end_withoutLaunch_doesNothing() {
+        sut.end(DropInTraceSpan.LAUNCH_TO_FIRST_FRAME);
+
+        verify(listener, never()).onSpanEnded(any(DropInTraceSpan.class));
+    }
+
+    @Test
+    public void cancel_endsPendingSpansWithError() {
+        sut.start("session-id");
+        sut.end(DropInTraceSpan.LAUNCH_TO_FIRST_FRAME);
+
+        Exception error = new Exception("cancelled");
+        sut.cancel(error);
+
+        ArgumentCaptor<DropInTraceSpan> captor = ArgumentCaptor.forClass(DropInTraceSpan.class);
+        verify(listener, times(3)).onSpanEnded(captor.capture());
+        assertSame(error, captor.getAllValues().get(1).getError());
+        assertSame(error, captor.getAllValues().get(2).getError());
+        assertFalse(sut.isPending(DropInTraceSpan.LAUNCH_TO_PAYMENT_METHODS_SHOWN));
+    }
+}
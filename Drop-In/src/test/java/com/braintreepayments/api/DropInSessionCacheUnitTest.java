@@ -0,0 +1,39 @@
+package com.braintreepayments.api;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+
+@RunWith(RobolectricTestRunner.class)
+public class DropInSessionCacheUnitTest {
+
+    @Before
+    public void beforeEach() {
+        DropInSessionCache.clearAll();
+    }
+
+    @Test
+    public void setLastKnownVaultedPaymentMethods_keepsOnlyMostRecentlyUsedVaults() {
+        List<PaymentMethodNonce> vaultedPaymentMethods =
+                Collections.singletonList(mock(PaymentMethodNonce.class));
+
+        DropInSessionCache.setLastKnownVaultedPaymentMethods("vault-0", vaultedPaymentMethods);
+        for (int i = 1; i < DropInSessionCache.MAX_LAST_KNOWN_VAULTS; i++) {
+            DropInSessionCache.setLastKnownVaultedPaymentMethods("vault-" + i, vaultedPaymentMethods);
+        }
+        DropInSessionCache.getLastKnownVaultedPaymentMethods("vault-0");
+        DropInSessionCache.setLastKnownVaultedPaymentMethods("new-vault", vaultedPaymentMethods);
+
+        assertNotNull(DropInSessionCache.getLastKnownVaultedPaymentMethods("vault-0"));
+        assertNull(DropInSessionCache.getLastKnownVaultedPaymentMethods("vault-1"));
+        assertNotNull(DropInSessionCache.getLastKnownVaultedPaymentMethods("new-vault"));
+    }
+}
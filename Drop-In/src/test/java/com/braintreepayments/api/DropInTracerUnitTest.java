@@ -0,0 +1,82 @@
+package com.braintreepayments.api;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public class DropInTracerUnitTest {
+
+    @Test
+    public void endSpan_withNullSpan_doesNothing() {
+        DropInTraceListener listener = mock(DropInTraceListener.class);
+        DropInTracer sut = new DropInTracer();
+        sut.setListener(listener);
+
+        sut.endSpan(null, null);
+
+        verify(listener, never()).onSpanEnded(any(DropInTraceSpan.class));
+    }
+
+    @Test
+    public void startSpan_notifiesListenerWithSessionAndName() {
+        DropInTraceListener listener = mock(DropInTraceListener.class);
+        DropInTracer sut = new DropInTracer();
+        sut.setListener(listener);
+
+        DropInTraceSpan span = sut.startSpan("session-id", DropInTraceSpan.CONFIGURATION_FETCH);
+
+        verify(listener).onSpanStarted(span);
+        assertEquals("session-id", span.getSessionId());
+        assertEquals(DropInTraceSpan.CONFIGURATION_FETCH, span.getName());
+        assertEquals(-1, span.getEndTimeNanos());
+    }
+
+    @Test
+    public void startSpan_assignsUniqueSpanIds() {
+        DropInTracer sut = new DropInTracer();
+        sut.setListener(mock(DropInTraceListener.class));
+
+        DropInTraceSpan first = sut.startSpan("session-id", DropInTraceSpan.CONFIGURATION_FETCH);
+        DropInTraceSpan second = sut.startSpan("session-id", DropInTraceSpan.CONFIGURATION_FETCH);
+
+        assertNotEquals(first.getSpanId(), second.getSpanId());
+    }
+
+    @Test
+    public void endSpan_recordsEndTimeAndErrorAndNotifiesListener() {
+        DropInTraceListener listener = mock(DropInTraceListener.class);
+        DropInTracer sut = new DropInTracer();
+        sut.setListener(listener);
+
+        Exception error = new Exception("error");
+        DropInTraceSpan span = sut.startSpan("session-id", DropInTraceSpan.CARD_TOKENIZATION);
+        sut.endSpan(span, error);
+
+        verify(listener).onSpanEnded(span);
+        assertTrue(span.getEndTimeNanos() >= span.getStartTimeNanos());
+        assertSame(error, span.getError());
+    }
+
+    @Test
+    public void endSpan_afterListenerIsRemoved_doesNotNotify() {
+        DropInTraceListener listener = mock(DropInTraceListener.class);
+        DropInTracer sut = new DropInTracer();
+        sut.setListener(listener);
+
+        DropInTraceSpan span = sut.startSpan("session-id", DropInTraceSpan.CARD_TOKENIZATION);
+        sut.setListener(null);
+        sut.endSpan(span, null);
+
+        verify(listener, never()).onSpanEnded(any(DropInTraceSpan.class));
+    }
+}
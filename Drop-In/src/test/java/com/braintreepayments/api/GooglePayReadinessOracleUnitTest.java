@@ -0,0 +1,204 @@
+package com.braintreepayments.api;
+
+import androidx.fragment.app.FragmentActivity;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public class GooglePayReadinessOracleUnitTest {
+
+    private static final long ONE_MINUTE = 60 * 1000;
+
+    private FragmentActivity activity;
+
+    @Before
+    public void beforeEach() {
+        activity = Robolectric.buildActivity(FragmentActivity.class).get();
+    }
+
+    @Test
+    public void isReadyToPay_whenCallIsInFlight_sharesResultWithAllCallers() {
+        GooglePayClient googlePayClient = mock(GooglePayClient.class);
+        GooglePayIsReadyToPayCallback firstCallback = mock(GooglePayIsReadyToPayCallback.class);
+        GooglePayIsReadyToPayCallback secondCallback = mock(GooglePayIsReadyToPayCallback.class);
+
+        GooglePayReadinessOracle sut = new GooglePayReadinessOracle();
+        sut.isReadyToPay(activity, googlePayClient, "key", ONE_MINUTE, firstCallback);
+        sut.isReadyToPay(activity, googlePayClient, "key", ONE_MINUTE, secondCallback);
+
+        ArgumentCaptor<GooglePayIsReadyToPayCallback> captor =
+                ArgumentCaptor.forClass(GooglePayIsReadyToPayCallback.class);
+        verify(googlePayClient, times(1)).isReadyToPay(same(activity), captor.capture());
+
+        captor.getValue().onResult(true, null);
+
+        verify(firstCallback).onResult(true, null);
+        verify(secondCallback).onResult(true, null);
+    }
+
+    @Test
+    public void isReadyToPay_withinTTL_returnsCachedAnswer() {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+        GooglePayIsReadyToPayCallback callback = mock(GooglePayIsReadyToPayCallback.class);
+
+        GooglePayReadinessOracle sut = new GooglePayReadinessOracle();
+        sut.isReadyToPay(activity, googlePayClient, "key", ONE_MINUTE, mock(GooglePayIsReadyToPayCallback.class));
+        sut.isReadyToPay(activity, googlePayClient, "key", ONE_MINUTE, callback);
+
+        verify(googlePayClient, times(1)).isReadyToPay(any(FragmentActivity.class), any(GooglePayIsReadyToPayCallback.class));
+        verify(callback).onResult(true, null);
+    }
+
+    @Test
+    public void isReadyToPay_whenAnswerIsOlderThanTTL_asksGooglePayClientAgain() {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+
+        GooglePayReadinessOracle sut = new GooglePayReadinessOracle();
+        sut.isReadyToPay(activity, googlePayClient, "key", 0, mock(GooglePayIsReadyToPayCallback.class));
+        sut.isReadyToPay(activity, googlePayClient, "key", 0, mock(GooglePayIsReadyToPayCallback.class));
+
+        verify(googlePayClient, times(2)).isReadyToPay(any(FragmentActivity.class), any(GooglePayIsReadyToPayCallback.class));
+    }
+
+    @Test
+    public void isReadyToPay_whenKeyChanges_asksGooglePayClientAgain() {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+
+        GooglePayReadinessOracle sut = new GooglePayReadinessOracle();
+        sut.isReadyToPay(activity, googlePayClient, "key", ONE_MINUTE, mock(GooglePayIsReadyToPayCallback.class));
+        sut.isReadyToPay(activity, googlePayClient, "other-key", ONE_MINUTE, mock(GooglePayIsReadyToPayCallback.class));
+
+        verify(googlePayClient, times(2)).isReadyToPay(any(FragmentActivity.class), any(GooglePayIsReadyToPayCallback.class));
+    }
+
+    @Test
+    public void isReadyToPay_whenGooglePayClientErrors_doesNotCacheAnswer() {
+        Exception error = new Exception("google pay error");
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPayError(error)
+                .build();
+        GooglePayIsReadyToPayCallback callback = mock(GooglePayIsReadyToPayCallback.class);
+
+        GooglePayReadinessOracle sut = new GooglePayReadinessOracle();
+        sut.isReadyToPay(activity, googlePayClient, "key", ONE_MINUTE, callback);
+        sut.isReadyToPay(activity, googlePayClient, "key", ONE_MINUTE, mock(GooglePayIsReadyToPayCallback.class));
+
+        verify(callback).onResult(false, error);
+        verify(googlePayClient, times(2)).isReadyToPay(any(FragmentActivity.class), any(GooglePayIsReadyToPayCallback.class));
+    }
+
+    @Test
+    public void hasAnswer_withinTTL_returnsTrue() {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(false)
+                .build();
+
+        GooglePayReadinessOracle sut = new GooglePayReadinessOracle();
+        sut.isReadyToPay(activity, googlePayClient, "key", ONE_MINUTE, mock(GooglePayIsReadyToPayCallback.class));
+
+        assertTrue(sut.hasAnswer("key", ONE_MINUTE));
+        assertFalse(sut.hasAnswer("other-key", ONE_MINUTE));
+    }
+
+    @Test
+    public void hasAnswer_whenAnswerIsOlderThanTTL_returnsFalse() {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+
+        GooglePayReadinessOracle sut = new GooglePayReadinessOracle();
+        sut.isReadyToPay(activity, googlePayClient, "key", 0, mock(GooglePayIsReadyToPayCallback.class));
+
+        assertFalse(sut.hasAnswer("key", 0));
+    }
+
+    @Test
+    public void hasAnswer_whenGooglePayClientErrors_returnsFalse() {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPayError(new Exception("google pay error"))
+                .build();
+
+        GooglePayReadinessOracle sut = new GooglePayReadinessOracle();
+        sut.isReadyToPay(activity, googlePayClient, "key", ONE_MINUTE, mock(GooglePayIsReadyToPayCallback.class));
+
+        assertFalse(sut.hasAnswer("key", ONE_MINUTE));
+    }
+
+    @Test
+    public void invalidate_causesNextCallToAskGooglePayClientAgain() {
+        GooglePayClient googlePayClient = new MockGooglePayClientBuilder()
+                .isReadyToPaySuccess(true)
+                .build();
+
+        GooglePayReadinessOracle sut = new GooglePayReadinessOracle();
+        sut.isReadyToPay(activity, googlePayClient, "key", ONE_MINUTE, mock(GooglePayIsReadyToPayCallback.class));
+        sut.invalidate();
+        sut.isReadyToPay(activity, googlePayClient, "key", ONE_MINUTE, mock(GooglePayIsReadyToPayCallback.class));
+
+        verify(googlePayClient, times(2)).isReadyToPay(any(FragmentActivity.class), any(GooglePayIsReadyToPayCallback.class));
+    }
+
+    @Test
+    public void createKey_whenGooglePayRequestContentsMatch_returnsSameKey() {
+        Authorization authorization = Authorization.fromString(Fixtures.TOKENIZATION_KEY);
+
+        GooglePayRequest googlePayRequest = new GooglePayRequest();
+        googlePayRequest.setEmailRequired(true);
+        GooglePayRequest otherGooglePayRequest = new GooglePayRequest();
+        otherGooglePayRequest.setEmailRequired(true);
+
+        assertEquals(GooglePayReadinessOracle.createKey(authorization, googlePayRequest),
+                GooglePayReadinessOracle.createKey(authorization, otherGooglePayRequest));
+    }
+
+    @Test
+    public void createKey_whenGooglePayRequestContentsDiffer_returnsDifferentKey() {
+        Authorization authorization = Authorization.fromString(Fixtures.TOKENIZATION_KEY);
+
+        GooglePayRequest googlePayRequest = new GooglePayRequest();
+        googlePayRequest.setEmailRequired(true);
+        GooglePayRequest otherGooglePayRequest = new GooglePayRequest();
+        otherGooglePayRequest.setEmailRequired(false);
+
+        assertNotEquals(GooglePayReadinessOracle.createKey(authorization, googlePayRequest),
+                GooglePayReadinessOracle.createKey(authorization, otherGooglePayRequest));
+    }
+
+    @Test
+    public void createKey_whenAuthorizationDiffers_returnsDifferentKey() {
+        GooglePayRequest googlePayRequest = new GooglePayRequest();
+
+        assertNotEquals(
+                GooglePayReadinessOracle.createKey(Authorization.fromString(Fixtures.TOKENIZATION_KEY), googlePayRequest),
+                GooglePayReadinessOracle.createKey(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN), googlePayRequest));
+    }
+
+    @Test
+    public void createKey_doesNotContainAuthorization() {
+        String key = GooglePayReadinessOracle.createKey(
+                Authorization.fromString(Fixtures.TOKENIZATION_KEY), new GooglePayRequest());
+
+        assertFalse(key.contains(Fixtures.TOKENIZATION_KEY));
+    }
+}
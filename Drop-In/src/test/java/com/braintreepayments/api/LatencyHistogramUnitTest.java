@@ -0,0 +1,86 @@
+package com.braintreepayments.api;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class LatencyHistogramUnitTest {
+
+    private static final double DELTA = 0.001;
+
+    @Test
+    public void getPercentileMillis_whenEmpty_returnsZero() {
+        LatencyHistogram sut = new LatencyHistogram();
+
+        assertEquals(0, sut.getCount());
+        assertEquals(0, sut.getPercentileMillis(0.5), DELTA);
+    }
+
+    @Test
+    public void getPercentileMillis_estimatesWithinBucket() {
+        LatencyHistogram sut = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            // 100 values spread over the (100ms, 200ms] bucket
+            sut.record(TimeUnit.MILLISECONDS.toNanos(100 + i));
+        }
+
+        assertEquals(100, sut.getCount());
+        assertEquals(150, sut.getPercentileMillis(0.5), DELTA);
+        assertEquals(195, sut.getPercentileMillis(0.95), DELTA);
+        assertEquals(199, sut.getPercentileMillis(0.99), DELTA);
+        assertEquals(200, sut.getMaxMillis(), DELTA);
+    }
+
+    @Test
+    public void getPercentileMillis_separatesSlowOutliers() {
+        LatencyHistogram sut = new LatencyHistogram();
+        for (int i = 0; i < 98; i++) {
+            sut.record(TimeUnit.MILLISECONDS.toNanos(40));
+        }
+        sut.record(TimeUnit.SECONDS.toNanos(4));
+        sut.record(TimeUnit.SECONDS.toNanos(4));
+
+        assertTrue(sut.getPercentileMillis(0.5) <= 50);
+        assertTrue(sut.getPercentileMillis(0.95) <= 50);
+        assertTrue(sut.getPercentileMillis(0.99) > 3000);
+        assertTrue(sut.getPercentileMillis(0.99) <= 4000);
+    }
+
+    @Test
+    public void getPercentileMillis_aboveLargestBucket_isBoundedByMax() {
+        LatencyHistogram sut = new LatencyHistogram();
+        sut.record(TimeUnit.MINUTES.toNanos(2));
+
+        assertEquals(TimeUnit.MINUTES.toMillis(2), sut.getPercentileMillis(0.99), DELTA);
+    }
+
+    @Test
+    public void snapshot_includesCountsAndPercentiles() {
+        LatencyHistogram sut = new LatencyHistogram();
+        sut.record(TimeUnit.MILLISECONDS.toNanos(10));
+
+        DropInLatencySnapshot snapshot = sut.snapshot(DropInTraceSpan.CONFIGURATION_FETCH);
+
+        assertEquals(DropInTraceSpan.CONFIGURATION_FETCH, snapshot.getOperation());
+        assertEquals(1, snapshot.getCount());
+        assertEquals(10, snapshot.getP50Millis(), DELTA);
+        assertEquals(10, snapshot.getP95Millis(), DELTA);
+        assertEquals(10, snapshot.getP99Millis(), DELTA);
+    }
+
+    @Test
+    public void reset_discardsRecordedLatencies() {
+        LatencyHistogram sut = new LatencyHistogram();
+        sut.record(TimeUnit.MILLISECONDS.toNanos(10));
+        sut.reset();
+
+        assertEquals(0, sut.getCount());
+        assertEquals(0, sut.getMaxMillis(), DELTA);
+    }
+}
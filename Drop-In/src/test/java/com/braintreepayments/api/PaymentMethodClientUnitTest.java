@@ -14,7 +14,9 @@ import org.mockito.Captor;
 import org.mockito.MockitoAnnotations;
 import org.robolectric.RobolectricTestRunner;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -32,6 +34,7 @@ public class PaymentMethodClientUnitTest {
 
     private Context context;
     private CardNonce cardNonce;
+    private Executor synchronousExecutor;
 
     @Captor
     ArgumentCaptor<List<PaymentMethodNonce>> paymentMethodNoncesCaptor;
@@ -44,6 +47,13 @@ public class PaymentMethodClientUnitTest {
         context = ApplicationProvider.getApplicationContext();
 
         when(cardNonce.getString()).thenReturn("im-a-card-nonce");
+
+        synchronousExecutor = new Executor() {
+            @Override
+            public void execute(Runnable runnable) {
+                runnable.run();
+            }
+        };
     }
 
     @Test
@@ -52,7 +62,7 @@ public class PaymentMethodClientUnitTest {
                 .sessionId("sample-session-id")
                 .build();
 
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
         sut.getPaymentMethodNonces(false, mock(GetPaymentMethodNoncesCallback.class));
 
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
@@ -68,7 +78,7 @@ public class PaymentMethodClientUnitTest {
                 .sessionId("sample-session-id")
                 .build();
 
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
         sut.getPaymentMethodNonces(true, mock(GetPaymentMethodNoncesCallback.class));
 
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
@@ -85,7 +95,7 @@ public class PaymentMethodClientUnitTest {
                 .sendGETSuccessfulResponse(Fixtures.PAYMENT_METHODS_GET_PAYMENT_METHODS_RESPONSE)
                 .build();
 
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(false, callback);
@@ -97,6 +107,42 @@ public class PaymentMethodClientUnitTest {
         assertTrue(paymentMethodNonces.get(0).isDefault());
     }
 
+    @Test
+    public void getPaymentMethodNonces_parsesOnParsingExecutorAndNotifiesOnCallbackExecutor() {
+        BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
+                .sessionId("sample-session-id")
+                .sendGETSuccessfulResponse(Fixtures.PAYMENT_METHODS_GET_PAYMENT_METHODS_RESPONSE)
+                .build();
+
+        final List<Runnable> parsingTasks = new ArrayList<>();
+        final List<Runnable> callbackTasks = new ArrayList<>();
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, new Executor() {
+            @Override
+            public void execute(Runnable runnable) {
+                parsingTasks.add(runnable);
+            }
+        }, new Executor() {
+            @Override
+            public void execute(Runnable runnable) {
+                callbackTasks.add(runnable);
+            }
+        });
+
+        GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
+        sut.getPaymentMethodNonces(false, callback);
+
+        assertEquals(1, parsingTasks.size());
+        assertTrue(callbackTasks.isEmpty());
+
+        parsingTasks.get(0).run();
+        assertEquals(1, callbackTasks.size());
+        verify(callback, never()).onResult(any(List.class), any(Exception.class));
+
+        callbackTasks.get(0).run();
+        verify(callback).onResult(paymentMethodNoncesCaptor.capture(), (Exception) isNull());
+        assertEquals("123456-12345-12345-a-adfa", paymentMethodNoncesCaptor.getValue().get(0).getString());
+    }
+
     @Test
     public void getPaymentMethodNonces_parsesPayPal() {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
@@ -104,7 +150,7 @@ public class PaymentMethodClientUnitTest {
                 .sendGETSuccessfulResponse(Fixtures.PAYMENT_METHODS_GET_PAYMENT_METHODS_RESPONSE)
                 .build();
 
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(false, callback);
@@ -123,7 +169,7 @@ public class PaymentMethodClientUnitTest {
                 .sendGETSuccessfulResponse(Fixtures.PAYMENT_METHODS_GET_PAYMENT_METHODS_RESPONSE)
                 .build();
 
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(false, callback);
@@ -141,7 +187,7 @@ public class PaymentMethodClientUnitTest {
                 .sendGETSuccessfulResponse(Fixtures.PAYMENT_METHODS_GET_PAYMENT_METHODS_GOOGLE_PAY_RESPONSE)
                 .build();
 
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(false, callback);
@@ -157,7 +203,7 @@ public class PaymentMethodClientUnitTest {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
                 .sendGETSuccessfulResponse(Fixtures.PAYMENT_METHODS_GET_PAYMENT_METHODS_EMPTY_RESPONSE)
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(callback);
@@ -173,7 +219,7 @@ public class PaymentMethodClientUnitTest {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
                 .sendGETErrorResponse(new UnexpectedException("Error"))
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(callback);
@@ -188,7 +234,7 @@ public class PaymentMethodClientUnitTest {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
                 .sendGETSuccessfulResponse("{}")
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(callback);
@@ -201,7 +247,7 @@ public class PaymentMethodClientUnitTest {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
                 .sendGETErrorResponse(new UnexpectedException("Error"))
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(callback);
@@ -214,7 +260,7 @@ public class PaymentMethodClientUnitTest {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
                 .sendGETSuccessfulResponse(Fixtures.PAYMENT_METHODS_GET_PAYMENT_METHODS_RESPONSE)
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(callback);
@@ -234,7 +280,7 @@ public class PaymentMethodClientUnitTest {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
                 .sendGETSuccessfulResponse(Fixtures.PAYMENT_METHODS_GET_PAYMENT_METHODS_GOOGLE_PAY_RESPONSE)
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(callback);
@@ -251,7 +297,7 @@ public class PaymentMethodClientUnitTest {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
                 .sendGETSuccessfulResponse(Fixtures.PAYMENT_METHODS_GET_PAYMENT_METHODS_RESPONSE)
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(callback);
@@ -264,7 +310,7 @@ public class PaymentMethodClientUnitTest {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
                 .sessionId("session-id")
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         GetPaymentMethodNoncesCallback callback = mock(GetPaymentMethodNoncesCallback.class);
         sut.getPaymentMethodNonces(true, callback);
@@ -282,7 +328,7 @@ public class PaymentMethodClientUnitTest {
         BraintreeClient braintreeClient = new MockBraintreeClientBuilder()
                 .authorization(Authorization.fromString(Fixtures.TOKENIZATION_KEY))
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         DeletePaymentMethodNonceCallback callback = mock(DeletePaymentMethodNonceCallback.class);
         sut.deletePaymentMethod(context, cardNonce, callback);
@@ -303,7 +349,7 @@ public class PaymentMethodClientUnitTest {
                 .authorization(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN))
                 .sendGraphQLPOSTErrorResponse(new UnexpectedException("Error"))
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         DeletePaymentMethodNonceCallback callback = mock(DeletePaymentMethodNonceCallback.class);
         sut.deletePaymentMethod(context, cardNonce, callback);
@@ -322,7 +368,7 @@ public class PaymentMethodClientUnitTest {
                 .authorization(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN))
                 .sendGraphQLPOSTErrorResponse(new UnexpectedException("Error"))
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         DeletePaymentMethodNonceCallback callback = mock(DeletePaymentMethodNonceCallback.class);
         sut.deletePaymentMethod(context, cardNonce, callback);
@@ -336,7 +382,7 @@ public class PaymentMethodClientUnitTest {
                 .authorization(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN))
                 .sendGraphQLPOSTSuccessfulResponse("Success")
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         DeletePaymentMethodNonceCallback callback = mock(DeletePaymentMethodNonceCallback.class);
         sut.deletePaymentMethod(context, cardNonce, callback);
@@ -350,7 +396,7 @@ public class PaymentMethodClientUnitTest {
                 .authorization(Authorization.fromString(Fixtures.BASE64_CLIENT_TOKEN))
                 .sendGraphQLPOSTSuccessfulResponse("Success")
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         DeletePaymentMethodNonceCallback callback = mock(DeletePaymentMethodNonceCallback.class);
         sut.deletePaymentMethod(context, cardNonce, callback);
@@ -370,7 +416,7 @@ public class PaymentMethodClientUnitTest {
                 .sessionId("test-session-id")
                 .integration("test-integration")
                 .build();
-        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient);
+        PaymentMethodClient sut = new PaymentMethodClient(braintreeClient, synchronousExecutor, synchronousExecutor);
 
         DeletePaymentMethodNonceCallback callback = mock(DeletePaymentMethodNonceCallback.class);
         sut.deletePaymentMethod(context, cardNonce, callback);
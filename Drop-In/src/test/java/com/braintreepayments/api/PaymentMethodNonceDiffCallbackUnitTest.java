@@ -0,0 +1,46 @@
+package com.braintreepayments.api;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class PaymentMethodNonceDiffCallbackUnitTest {
+
+    @Test
+    public void areItemsTheSame_whenNonceStringChangesForSameCard_returnsTrue() {
+        PaymentMethodNonceDiffCallback sut = new PaymentMethodNonceDiffCallback();
+
+        assertTrue(sut.areItemsTheSame(
+                createCardNonce("nonce", "1111"), createCardNonce("refreshed-nonce", "1111")));
+    }
+
+    @Test
+    public void areContentsTheSame_whenNonceStringIsUnchanged_returnsTrue() {
+        PaymentMethodNonceDiffCallback sut = new PaymentMethodNonceDiffCallback();
+
+        assertTrue(sut.areContentsTheSame(
+                createCardNonce("nonce", "1111"), createCardNonce("nonce", "1111")));
+    }
+
+    @Test
+    public void areContentsTheSame_whenNonceStringChanges_returnsFalse() {
+        PaymentMethodNonceDiffCallback sut = new PaymentMethodNonceDiffCallback();
+
+        assertFalse(sut.areContentsTheSame(
+                createCardNonce("nonce", "1111"), createCardNonce("refreshed-nonce", "1111")));
+    }
+
+    private static CardNonce createCardNonce(String nonce, String lastFour) {
+        CardNonce cardNonce = mock(CardNonce.class);
+        when(cardNonce.getString()).thenReturn(nonce);
+        when(cardNonce.getCardType()).thenReturn("Visa");
+        when(cardNonce.getLastFour()).thenReturn(lastFour);
+        return cardNonce;
+    }
+}
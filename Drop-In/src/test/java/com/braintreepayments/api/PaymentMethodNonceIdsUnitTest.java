@@ -0,0 +1,71 @@
+package com.braintreepayments.api;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class PaymentMethodNonceIdsUnitTest {
+
+    @Test
+    public void getId_whenNonceStringChangesForSameCard_returnsSameId() {
+        List<PaymentMethodNonce> paymentMethodNonces =
+                Collections.<PaymentMethodNonce>singletonList(createCardNonce("nonce", "1111"));
+        List<PaymentMethodNonce> refreshedPaymentMethodNonces =
+                Collections.<PaymentMethodNonce>singletonList(createCardNonce("refreshed-nonce", "1111"));
+
+        PaymentMethodNonceIds sut = new PaymentMethodNonceIds();
+
+        assertEquals(sut.getId(paymentMethodNonces, 0), sut.getId(refreshedPaymentMethodNonces, 0));
+    }
+
+    @Test
+    public void getId_whenCardsDiffer_returnsDifferentIds() {
+        List<PaymentMethodNonce> paymentMethodNonces = Arrays.<PaymentMethodNonce>asList(
+                createCardNonce("nonce", "1111"), createCardNonce("other-nonce", "2222"));
+
+        PaymentMethodNonceIds sut = new PaymentMethodNonceIds();
+
+        assertNotEquals(sut.getId(paymentMethodNonces, 0), sut.getId(paymentMethodNonces, 1));
+    }
+
+    @Test
+    public void getId_whenSameCardIsVaultedTwice_returnsDifferentIds() {
+        List<PaymentMethodNonce> paymentMethodNonces = Arrays.<PaymentMethodNonce>asList(
+                createCardNonce("nonce", "1111"), createCardNonce("other-nonce", "1111"));
+
+        PaymentMethodNonceIds sut = new PaymentMethodNonceIds();
+
+        assertNotEquals(sut.getId(paymentMethodNonces, 0), sut.getId(paymentMethodNonces, 1));
+    }
+
+    @Test
+    public void getId_whenPaymentMethodIsRemovedAndAddedAgain_returnsNewId() {
+        List<PaymentMethodNonce> paymentMethodNonces =
+                Collections.<PaymentMethodNonce>singletonList(createCardNonce("nonce", "1111"));
+
+        PaymentMethodNonceIds sut = new PaymentMethodNonceIds();
+        long id = sut.getId(paymentMethodNonces, 0);
+        sut.getId(Collections.<PaymentMethodNonce>singletonList(createCardNonce("other-nonce", "2222")), 0);
+
+        assertNotEquals(id, sut.getId(
+                Collections.<PaymentMethodNonce>singletonList(createCardNonce("nonce", "1111")), 0));
+    }
+
+    private static CardNonce createCardNonce(String nonce, String lastFour) {
+        CardNonce cardNonce = mock(CardNonce.class);
+        when(cardNonce.getString()).thenReturn(nonce);
+        when(cardNonce.getCardType()).thenReturn("Visa");
+        when(cardNonce.getLastFour()).thenReturn(lastFour);
+        return cardNonce;
+    }
+}
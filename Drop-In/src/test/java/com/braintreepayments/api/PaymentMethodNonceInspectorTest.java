@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -96,4 +97,42 @@ public class PaymentMethodNonceInspectorTest {
 
         assertEquals("", sut.getTypeLabel(mock(PaymentMethodNonce.class)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getIdentity_whenCardNonceStringChanges_returnsSameIdentity() {
+        PaymentMethodNonceInspector sut = new PaymentMethodNonceInspector();
+
+        CardNonce refreshedCardNonce = mock(CardNonce.class);
+        when(cardNonce.getString()).thenReturn("nonce");
+        when(cardNonce.getCardType()).thenReturn("Visa");
+        when(cardNonce.getLastFour()).thenReturn("1111");
+        when(refreshedCardNonce.getString()).thenReturn("refreshed-nonce");
+        when(refreshedCardNonce.getCardType()).thenReturn("Visa");
+        when(refreshedCardNonce.getLastFour()).thenReturn("1111");
+
+        assertEquals(sut.getIdentity(cardNonce), sut.getIdentity(refreshedCardNonce));
+    }
+
+    @Test
+    public void getIdentity_whenCardLastFourDiffers_returnsDifferentIdentity() {
+        PaymentMethodNonceInspector sut = new PaymentMethodNonceInspector();
+
+        CardNonce otherCardNonce = mock(CardNonce.class);
+        when(cardNonce.getCardType()).thenReturn("Visa");
+        when(cardNonce.getLastFour()).thenReturn("1111");
+        when(otherCardNonce.getCardType()).thenReturn("Visa");
+        when(otherCardNonce.getLastFour()).thenReturn("2222");
+
+        assertNotEquals(sut.getIdentity(cardNonce), sut.getIdentity(otherCardNonce));
+    }
+
+    @Test
+    public void getIdentity_whenPaymentMethodHasNoDescription_returnsNonceString() {
+        PaymentMethodNonceInspector sut = new PaymentMethodNonceInspector();
+
+        PaymentMethodNonce paymentMethodNonce = mock(PaymentMethodNonce.class);
+        when(paymentMethodNonce.getString()).thenReturn("nonce");
+
+        assertEquals("nonce", sut.getIdentity(paymentMethodNonce));
+    }
+}
@@ -0,0 +1,71 @@
+package com.braintreepayments.api;
+
+import org.json.JSONException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class PaymentMethodNoncesParserUnitTest {
+
+    @Test
+    public void parse_parsesVaultSupportedPaymentMethodsInOrderAndSkipsOthers() throws JSONException {
+        List<PaymentMethodNonce> paymentMethodNonces =
+                PaymentMethodNoncesParser.parse(Fixtures.PAYMENT_METHODS_GET_PAYMENT_METHODS_RESPONSE);
+
+        assertEquals(3, paymentMethodNonces.size());
+        assertTrue(paymentMethodNonces.get(0) instanceof CardNonce);
+        assertEquals("123456-12345-12345-a-adfa", paymentMethodNonces.get(0).getString());
+        assertTrue(paymentMethodNonces.get(1) instanceof PayPalAccountNonce);
+        assertEquals("aaaaaaaa-bbbb-cccc-dddd-eeeeeeeeeeee", paymentMethodNonces.get(1).getString());
+        assertTrue(paymentMethodNonces.get(2) instanceof VenmoAccountNonce);
+        assertEquals("fake-venmo-nonce", paymentMethodNonces.get(2).getString());
+    }
+
+    @Test
+    public void parse_skipsUnknownTopLevelKeys() throws JSONException {
+        String jsonBody = "{\"meta\": {\"count\": 1, \"tags\": [1, 2.5, null]}, \"paymentMethods\": ["
+                + Fixtures.PAYMENT_METHODS_VISA_CREDIT_CARD + "]}";
+
+        List<PaymentMethodNonce> paymentMethodNonces = PaymentMethodNoncesParser.parse(jsonBody);
+
+        assertEquals(1, paymentMethodNonces.size());
+        assertEquals("12345678-1234-1234-1234-123456789012", paymentMethodNonces.get(0).getString());
+    }
+
+    @Test
+    public void parse_skipsPaymentMethodKeysNotReadByNonces() throws JSONException {
+        String jsonBody = "{\"paymentMethods\": [{"
+                + "\"isLocked\": false,"
+                + "\"securityQuestions\": [\"cvv\"],"
+                + "\"consumed\": {\"at\": null},"
+                + "\"type\": \"CreditCard\","
+                + "\"nonce\": \"fake-nonce\","
+                + "\"default\": true,"
+                + "\"details\": {\"cardType\": \"Visa\", \"lastTwo\": \"11\", \"lastFour\": \"1111\"}"
+                + "}]}";
+
+        List<PaymentMethodNonce> paymentMethodNonces = PaymentMethodNoncesParser.parse(jsonBody);
+
+        assertEquals(1, paymentMethodNonces.size());
+        CardNonce cardNonce = (CardNonce) paymentMethodNonces.get(0);
+        assertEquals("fake-nonce", cardNonce.getString());
+        assertEquals("1111", cardNonce.getLastFour());
+        assertTrue(cardNonce.isDefault());
+    }
+
+    @Test(expected = JSONException.class)
+    public void parse_whenPaymentMethodsAreMissing_throwsJSONException() throws JSONException {
+        PaymentMethodNoncesParser.parse("{}");
+    }
+
+    @Test(expected = JSONException.class)
+    public void parse_whenResponseIsMalformed_throwsJSONException() throws JSONException {
+        PaymentMethodNoncesParser.parse("{\"paymentMethods\": [");
+    }
+}
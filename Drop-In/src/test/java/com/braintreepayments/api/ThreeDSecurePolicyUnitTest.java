@@ -0,0 +1,98 @@
+package com.braintreepayments.api;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class ThreeDSecurePolicyUnitTest {
+
+    private Configuration configuration;
+    private DropInRequest dropInRequest;
+    private PaymentMethodNonce cardNonce;
+
+    @Before
+    public void beforeEach() throws JSONException {
+        configuration = Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY_AND_THREE_D_SECURE);
+
+        ThreeDSecureRequest threeDSecureRequest = new ThreeDSecureRequest();
+        threeDSecureRequest.setAmount("1.00");
+
+        dropInRequest = new DropInRequest();
+        dropInRequest.setThreeDSecureRequest(threeDSecureRequest);
+        dropInRequest.setRequestThreeDSecureVerification(true);
+
+        cardNonce = CardNonce.fromJSON(new JSONObject(Fixtures.PAYMENT_METHODS_VISA_CREDIT_CARD));
+    }
+
+    @Test
+    public void shouldRequestThreeDSecureVerification_whenRequestedAndEnabled_returnsTrueForCardNonce() {
+        ThreeDSecurePolicy sut = ThreeDSecurePolicy.from(configuration, dropInRequest);
+        assertTrue(sut.shouldRequestThreeDSecureVerification(cardNonce));
+    }
+
+    @Test
+    public void shouldRequestThreeDSecureVerification_whenNotRequested_returnsFalse() {
+        dropInRequest.setRequestThreeDSecureVerification(false);
+
+        ThreeDSecurePolicy sut = ThreeDSecurePolicy.from(configuration, dropInRequest);
+        assertFalse(sut.shouldRequestThreeDSecureVerification(cardNonce));
+    }
+
+    @Test
+    public void shouldRequestThreeDSecureVerification_whenThreeDSecureIsDisabled_returnsFalse() throws JSONException {
+        Configuration configuration = Configuration.fromJson(Fixtures.CONFIGURATION_WITH_GOOGLE_PAY);
+
+        ThreeDSecurePolicy sut = ThreeDSecurePolicy.from(configuration, dropInRequest);
+        assertFalse(sut.shouldRequestThreeDSecureVerification(cardNonce));
+    }
+
+    @Test
+    public void shouldRequestThreeDSecureVerification_whenAmountIsMissing_returnsFalse() {
+        dropInRequest.setThreeDSecureRequest(new ThreeDSecureRequest());
+
+        ThreeDSecurePolicy sut = ThreeDSecurePolicy.from(configuration, dropInRequest);
+        assertFalse(sut.shouldRequestThreeDSecureVerification(cardNonce));
+    }
+
+    @Test
+    public void shouldRequestThreeDSecureVerification_forGooglePayNonces_dependsOnNetworkTokenization() throws JSONException {
+        ThreeDSecurePolicy sut = ThreeDSecurePolicy.from(configuration, dropInRequest);
+
+        assertTrue(sut.shouldRequestThreeDSecureVerification(GooglePayCardNonce.fromJSON(
+                new JSONObject(Fixtures.GOOGLE_PAY_NON_NETWORK_TOKENIZED_RESPONSE))));
+        assertFalse(sut.shouldRequestThreeDSecureVerification(GooglePayCardNonce.fromJSON(
+                new JSONObject(Fixtures.GOOGLE_PAY_NETWORK_TOKENIZED_RESPONSE))));
+    }
+
+    @Test
+    public void shouldRequestThreeDSecureVerification_forPayPalNonce_returnsFalse() {
+        ThreeDSecurePolicy sut = ThreeDSecurePolicy.from(configuration, dropInRequest);
+        assertFalse(sut.shouldRequestThreeDSecureVerification(mock(PayPalAccountNonce.class)));
+    }
+
+    @Test
+    public void evaluate_returnsDecisionForEachPaymentMethodKeyedByNonce() {
+        PaymentMethodNonce payPalNonce = mock(PayPalAccountNonce.class);
+        when(payPalNonce.getString()).thenReturn("paypal-nonce");
+
+        ThreeDSecurePolicy sut = ThreeDSecurePolicy.from(configuration, dropInRequest);
+        Map<String, Boolean> result = sut.evaluate(Arrays.asList(cardNonce, payPalNonce));
+
+        assertEquals(2, result.size());
+        assertTrue(result.get(cardNonce.getString()));
+        assertFalse(result.get("paypal-nonce"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.braintreepayments.api;
+
+import android.view.View;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class VaultManagerPaymentMethodsAdapterUnitTest {
+
+    @Test
+    public void getItemId_returnsStableIdForEachPaymentMethod() {
+        List<PaymentMethodNonce> paymentMethodNonces = Arrays.<PaymentMethodNonce>asList(
+                createCardNonce("nonce", "1111"), createCardNonce("other-nonce", "2222"));
+
+        VaultManagerPaymentMethodsAdapter sut =
+                new VaultManagerPaymentMethodsAdapter(mock(View.OnClickListener.class), paymentMethodNonces);
+
+        assertEquals(2, sut.getItemCount());
+        assertNotEquals(sut.getItemId(0), sut.getItemId(1));
+        assertEquals(sut.getItemId(0), sut.getItemId(0));
+    }
+
+    private static CardNonce createCardNonce(String nonce, String lastFour) {
+        CardNonce cardNonce = mock(CardNonce.class);
+        when(cardNonce.getString()).thenReturn(nonce);
+        when(cardNonce.getCardType()).thenReturn("Visa");
+        when(cardNonce.getLastFour()).thenReturn(lastFour);
+        return cardNonce;
+    }
+}
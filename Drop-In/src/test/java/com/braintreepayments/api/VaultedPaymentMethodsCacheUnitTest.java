@@ -0,0 +1,112 @@
+package com.braintreepayments.api;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.braintreepayments.api.UnitTestFixturesHelper.base64EncodedClientTokenFromFixture;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class VaultedPaymentMethodsCacheUnitTest {
+
+    private static final long ONE_MINUTE = 60 * 1000;
+
+    @Test
+    public void get_withinTTL_returnsCachedPaymentMethods() {
+        PaymentMethodNonce paymentMethodNonce = mock(PaymentMethodNonce.class);
+
+        VaultedPaymentMethodsCache sut = new VaultedPaymentMethodsCache();
+        sut.put("key", Collections.singletonList(paymentMethodNonce));
+
+        List<PaymentMethodNonce> result = sut.get("key", ONE_MINUTE);
+        assertEquals(1, result.size());
+        assertSame(paymentMethodNonce, result.get(0));
+    }
+
+    @Test
+    public void get_whenEntryIsOlderThanTTL_returnsNull() {
+        VaultedPaymentMethodsCache sut = new VaultedPaymentMethodsCache();
+        sut.put("key", Collections.singletonList(mock(PaymentMethodNonce.class)));
+
+        assertNull(sut.get("key", 0));
+    }
+
+    @Test
+    public void get_whenKeyDiffers_returnsNull() {
+        VaultedPaymentMethodsCache sut = new VaultedPaymentMethodsCache();
+        sut.put("key", Collections.singletonList(mock(PaymentMethodNonce.class)));
+
+        assertNull(sut.get("other-key", ONE_MINUTE));
+    }
+
+    @Test
+    public void remove_removesMatchingPaymentMethodFromEntry() {
+        PaymentMethodNonce deletedNonce = mock(PaymentMethodNonce.class);
+        when(deletedNonce.getString()).thenReturn("deleted-nonce");
+        PaymentMethodNonce remainingNonce = mock(PaymentMethodNonce.class);
+        when(remainingNonce.getString()).thenReturn("remaining-nonce");
+
+        VaultedPaymentMethodsCache sut = new VaultedPaymentMethodsCache();
+        sut.put("key", Arrays.asList(deletedNonce, remainingNonce));
+        sut.remove(deletedNonce);
+
+        List<PaymentMethodNonce> result = sut.get("key", ONE_MINUTE);
+        assertEquals(1, result.size());
+        assertSame(remainingNonce, result.get(0));
+    }
+
+    @Test
+    public void invalidate_discardsEntry() {
+        VaultedPaymentMethodsCache sut = new VaultedPaymentMethodsCache();
+        sut.put("key", Collections.singletonList(mock(PaymentMethodNonce.class)));
+        sut.invalidate();
+
+        assertNull(sut.get("key", ONE_MINUTE));
+    }
+
+    @Test
+    public void createKey_whenClientTokensAreForSameCustomer_returnsSameKey() {
+        Authorization authorization = Authorization.fromString(clientToken("fingerprint&customer_id=customer-1"));
+        Authorization otherAuthorization = Authorization.fromString(clientToken("other-fingerprint&customer_id=customer-1"));
+
+        assertEquals(VaultedPaymentMethodsCache.createKey(authorization),
+                VaultedPaymentMethodsCache.createKey(otherAuthorization));
+    }
+
+    @Test
+    public void createKey_whenClientTokensAreForDifferentCustomers_returnsDifferentKeys() {
+        Authorization authorization = Authorization.fromString(clientToken("fingerprint&customer_id=customer-1"));
+        Authorization otherAuthorization = Authorization.fromString(clientToken("fingerprint&customer_id=customer-2"));
+
+        assertNotEquals(VaultedPaymentMethodsCache.createKey(authorization),
+                VaultedPaymentMethodsCache.createKey(otherAuthorization));
+    }
+
+    @Test
+    public void createKey_doesNotContainAuthorization() {
+        String clientToken = clientToken("fingerprint&customer_id=customer-1");
+
+        String key = VaultedPaymentMethodsCache.createKey(Authorization.fromString(clientToken));
+        assertFalse(key.contains(clientToken));
+        assertFalse(key.contains("fingerprint"));
+        assertFalse(key.contains("customer-1"));
+    }
+
+    private static String clientToken(String authorizationFingerprint) {
+        return base64EncodedClientTokenFromFixture("{" +
+                "\"configUrl\": \"https://api.braintreegateway.com/merchants/merchant-id/client_api/v1/configuration\"," +
+                "\"authorizationFingerprint\": \"" + authorizationFingerprint + "\"" +
+                "}");
+    }
+}